@@ -5,15 +5,20 @@ import com.projectmanagement.auth.dto.LoginResponse;
 import com.projectmanagement.auth.dto.RefreshTokenRequest;
 import com.projectmanagement.auth.dto.RefreshTokenResponse;
 import com.projectmanagement.auth.dto.RegisterUserRequest;
+import com.projectmanagement.auth.dto.SessionResponse;
 import com.projectmanagement.config.JwtProperties;
-import com.projectmanagement.exception.InvalidRefreshTokenException;
 import com.projectmanagement.user.User;
 import com.projectmanagement.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -24,52 +29,73 @@ public class AuthService {
     private final JwtProperties jwtProperties;
     private final JwtBlackListService jwtBlackListService;
     private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TokenRevocationService tokenRevocationService;
 
     public User registerUser(RegisterUserRequest request) {
         return userService.createUser(request);
     }
 
-    public LoginResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+    public CompletableFuture<LoginResponse> login(LoginRequest request) {
+        return passwordHashingExecutor.submit(() -> authenticate(request));
+    }
+
+    private LoginResponse authenticate(LoginRequest request) {
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.email(),
                         request.password()
                 )
         );
 
-        User user = userService.findByEmail(request.email());
+        CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
         String jwt = jwtService.generateToken(user);
         String refreshToken = refreshTokenService.generateRefreshToken(user);
 
         LoginResponse.UserInfo userInfo = new LoginResponse.UserInfo(
                 user.getId(),
                 user.getEmail(),
-                user.getUsername(),
-                user.getRole().name()
+                user.getAccountUsername(),
+                user.getRole()
         );
 
         return new LoginResponse(jwt, refreshToken, jwtProperties.getExpiration() / 1000, userInfo);
     }
 
     public void logout(String token) {
-        String jti = jwtService.extractJti(token);
-        long expirationTime = jwtService.extractExpiration(token).getTime();
-        jwtBlackListService.blacklistToken(jti, expirationTime);
+        logout(jwtService.parseToken(token));
     }
 
-    public RefreshTokenResponse refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.refreshToken();
+    public void logout(VerifiedToken token) {
+        jwtBlackListService.blacklistToken(token.jti(), token.expiration().getTime());
+    }
+
+    public void logoutAll(UUID userId) {
+        tokenRevocationService.revokeAll(userId);
+        refreshTokenService.revokeAllSessions(userId);
+    }
 
-        if (!refreshTokenService.isValidRefreshToken(refreshToken)) {
-            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
-        }
+    // Stateless authentication never reads the user row; the revocation watermark is the account version
+    // it checks instead, so tokens issued before the account was disabled stop being accepted
+    public void disableUser(UUID userId) {
+        userService.disableUser(userId);
+        logoutAll(userId);
+    }
+
+    public List<SessionResponse> listSessions(UUID userId) {
+        return refreshTokenService.listSessions(userId);
+    }
 
+    public void revokeSession(UUID userId, String sessionId) {
+        refreshTokenService.revokeSession(userId, sessionId);
+    }
+
+    public RefreshTokenResponse refreshToken(RefreshTokenRequest request) {
+        VerifiedToken refreshToken = refreshTokenService.parseRefreshToken(request.refreshToken());
         User user = refreshTokenService.getUserFromRefreshToken(refreshToken);
 
+        String newRefreshToken = refreshTokenService.rotateRefreshToken(refreshToken, user);
         String newAccessToken = jwtService.generateToken(user);
-        String newRefreshToken = refreshTokenService.generateRefreshToken(user);
-
-        refreshTokenService.invalidateRefreshToken(refreshToken);
 
         return new RefreshTokenResponse(
                 newAccessToken,
@@ -23,16 +23,34 @@ public class CustomUserDetails implements UserDetails, Serializable {
     private final String email;
     private final String username;
     private final String password;
+    private final String role;
     private final boolean enabled;
     private final Collection<GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
-        this.id = user.getId();
-        this.email = user.getEmail();
-        this.username = user.getUsername();
-        this.password = user.getPassword();
-        this.enabled = user.getEnabled();
-        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        this(user.getId(), user.getEmail(), user.getUsername(), user.getPassword(), user.getRole().name(), user.getEnabled());
+    }
+
+    private CustomUserDetails(UUID id, String email, String username, String password, String role, boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public CustomUserDetails withPassword(String encodedPassword) {
+        return new CustomUserDetails(id, email, username, encodedPassword, role, enabled);
+    }
+
+    public String getAccountUsername() {
+        return username;
+    }
+
+    public static CustomUserDetails fromToken(VerifiedToken token) {
+        return new CustomUserDetails(token.userId(), token.subject(), token.username(), null, token.role(), token.enabled());
     }
 
     @Override
@@ -0,0 +1,11 @@
+package com.projectmanagement.auth;
+
+// A local copy of Redis state kept current by pub/sub events; LocalCacheHealthMonitor decides when it is trusted
+interface GuardedLocalCache {
+
+    // Rebuilds the copy from Redis and starts trusting it; false when Redis could not be read
+    boolean synchronize();
+
+    // Stops trusting the copy, so lookups go to Redis until the next successful synchronization
+    void invalidate();
+}
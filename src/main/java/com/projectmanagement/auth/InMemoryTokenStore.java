@@ -0,0 +1,239 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryTokenStore implements TokenStore {
+
+    private static final String SNAPSHOT_SEPARATOR = "|";
+    private static final String ACCESS_TOKEN_ENTRY = "A";
+    private static final String USED_REFRESH_TOKEN_ENTRY = "U";
+    private static final String REFRESH_TOKEN_ENTRY = "R";
+    private static final String WATERMARK_ENTRY = "W";
+
+    private final TokenStoreProperties properties;
+    private final JwtProperties jwtProperties;
+
+    // jti -> expiry in epoch millis
+    private final Map<String, Long> blacklistedAccessTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> usedRefreshTokens = new ConcurrentHashMap<>();
+    // userId -> (jti -> expiry in epoch millis); mutated only inside compute for per-user atomicity
+    private final Map<UUID, Map<String, Long>> refreshTokens = new ConcurrentHashMap<>();
+    // userId -> revocation watermark in epoch seconds
+    private final Map<UUID, Long> revocationWatermarks = new ConcurrentHashMap<>();
+
+    @Override
+    public void blacklistAccessToken(String jti, Duration ttl) {
+        blacklistedAccessTokens.merge(jti, System.currentTimeMillis() + ttl.toMillis(), Math::max);
+    }
+
+    @Override
+    public boolean isAccessTokenBlacklisted(String jti) {
+        return isLive(blacklistedAccessTokens, jti);
+    }
+
+    @Override
+    public long countBlacklistedAccessTokens() {
+        long now = System.currentTimeMillis();
+        return blacklistedAccessTokens.values().stream()
+                .filter(expiresAt -> expiresAt > now)
+                .count();
+    }
+
+    @Override
+    public long clearAccessTokenBlacklist() {
+        long removed = blacklistedAccessTokens.size();
+        blacklistedAccessTokens.clear();
+        return removed;
+    }
+
+    @Override
+    public void storeRefreshToken(UUID userId, String jti, long expiresAt) {
+        long now = System.currentTimeMillis();
+        refreshTokens.compute(userId, (id, tokens) -> {
+            Map<String, Long> userTokens = tokens != null ? tokens : new ConcurrentHashMap<>();
+            userTokens.values().removeIf(tokenExpiresAt -> tokenExpiresAt <= now);
+            userTokens.put(jti, expiresAt);
+            return userTokens;
+        });
+    }
+
+    @Override
+    public boolean rotateRefreshToken(UUID userId, String currentJti, long currentExpiresAt, String newJti, long newExpiresAt) {
+        long now = System.currentTimeMillis();
+        boolean[] rotated = {false};
+
+        refreshTokens.computeIfPresent(userId, (id, userTokens) -> {
+            Long expiresAt = userTokens.get(currentJti);
+            if (expiresAt == null || expiresAt <= now || isLive(usedRefreshTokens, currentJti)) {
+                return userTokens;
+            }
+
+            userTokens.remove(currentJti);
+            userTokens.values().removeIf(tokenExpiresAt -> tokenExpiresAt <= now);
+            usedRefreshTokens.put(currentJti, currentExpiresAt);
+            userTokens.put(newJti, newExpiresAt);
+            rotated[0] = true;
+            return userTokens;
+        });
+        return rotated[0];
+    }
+
+    @Override
+    public boolean rotateLegacyRefreshToken(UUID userId, String email, String currentJti, long currentExpiresAt,
+                                            String newJti, long newExpiresAt) {
+        // Legacy tokens were only ever stored in Redis
+        return false;
+    }
+
+    @Override
+    public Map<String, Long> findRefreshTokens(UUID userId) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> userTokens = refreshTokens.computeIfPresent(userId, (id, tokens) -> {
+            tokens.values().removeIf(expiresAt -> expiresAt <= now);
+            return tokens.isEmpty() ? null : tokens;
+        });
+        return userTokens != null ? Map.copyOf(userTokens) : Map.of();
+    }
+
+    @Override
+    public boolean removeRefreshToken(UUID userId, String jti) {
+        boolean[] removed = {false};
+        refreshTokens.computeIfPresent(userId, (id, tokens) -> {
+            removed[0] = tokens.remove(jti) != null;
+            return tokens.isEmpty() ? null : tokens;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public void removeAllRefreshTokens(UUID userId) {
+        refreshTokens.remove(userId);
+    }
+
+    @Override
+    public long advanceRevocationWatermark(UUID userId, long watermark) {
+        return revocationWatermarks.merge(userId, watermark, Math::max);
+    }
+
+    @Override
+    public long findRevocationWatermark(UUID userId) {
+        return revocationWatermarks.getOrDefault(userId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-store.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        long staleWatermarkBefore = (now - Math.max(jwtProperties.getExpiration(), jwtProperties.getRefreshExpiration())) / 1000;
+
+        blacklistedAccessTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        usedRefreshTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        refreshTokens.keySet().forEach(userId -> findRefreshTokens(userId));
+        revocationWatermarks.values().removeIf(watermark -> watermark < staleWatermarkBefore);
+    }
+
+    @PostConstruct
+    void restoreSnapshot() {
+        Path snapshot = snapshotPath();
+        if (snapshot == null || !Files.exists(snapshot)) {
+            return;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(snapshot, StandardCharsets.UTF_8);
+            lines.forEach(this::restoreEntry);
+            sweepExpired();
+            log.info("Restored token store snapshot from {}: {} entries", snapshot, lines.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not restore token store snapshot from {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void writeSnapshot() {
+        Path snapshot = snapshotPath();
+        if (snapshot == null) {
+            return;
+        }
+
+        sweepExpired();
+        try {
+            Path temporary = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writeEntries(writer, ACCESS_TOKEN_ENTRY, blacklistedAccessTokens);
+                writeEntries(writer, USED_REFRESH_TOKEN_ENTRY, usedRefreshTokens);
+                for (Map.Entry<UUID, Map<String, Long>> user : refreshTokens.entrySet()) {
+                    writeEntries(writer, REFRESH_TOKEN_ENTRY + SNAPSHOT_SEPARATOR + user.getKey(), user.getValue());
+                }
+                for (Map.Entry<UUID, Long> watermark : revocationWatermarks.entrySet()) {
+                    writeLine(writer, WATERMARK_ENTRY, watermark.getKey().toString(), watermark.getValue());
+                }
+            }
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Token store snapshot written to {}", snapshot);
+        } catch (IOException e) {
+            log.error("Could not write token store snapshot to {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    private void restoreEntry(String line) {
+        String[] fields = line.split("\\" + SNAPSHOT_SEPARATOR);
+        switch (fields[0]) {
+            case ACCESS_TOKEN_ENTRY -> blacklistedAccessTokens.put(fields[1], Long.parseLong(fields[2]));
+            case USED_REFRESH_TOKEN_ENTRY -> usedRefreshTokens.put(fields[1], Long.parseLong(fields[2]));
+            case REFRESH_TOKEN_ENTRY -> storeRefreshToken(UUID.fromString(fields[1]), fields[2], Long.parseLong(fields[3]));
+            case WATERMARK_ENTRY -> advanceRevocationWatermark(UUID.fromString(fields[1]), Long.parseLong(fields[2]));
+            default -> log.warn("Ignoring unknown token store snapshot entry: {}", line);
+        }
+    }
+
+    private static void writeEntries(BufferedWriter writer, String type, Map<String, Long> entries) throws IOException {
+        for (Map.Entry<String, Long> entry : entries.entrySet()) {
+            writeLine(writer, type, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String type, String key, long value) throws IOException {
+        writer.write(type + SNAPSHOT_SEPARATOR + key + SNAPSHOT_SEPARATOR + value);
+        writer.newLine();
+    }
+
+    private static boolean isLive(Map<String, Long> entries, String key) {
+        Long expiresAt = entries.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private Path snapshotPath() {
+        String path = properties.getSnapshotPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+}
@@ -1,5 +1,6 @@
 package com.projectmanagement.auth;
 
+import com.projectmanagement.config.JwtProperties;
 import com.projectmanagement.user.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -32,6 +33,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserService userService;
     private final JwtBlackListService jwtBlackListService;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtProperties jwtProperties;
 
     @Override
     protected void doFilterInternal(
@@ -74,19 +77,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void authenticateUser(String jwt, HttpServletRequest request) {
-        final String userEmail = jwtService.extractEmail(jwt);
-        final String jti = jwtService.extractJti(jwt);
+        final VerifiedToken token = jwtService.parseToken(jwt);
+        final String userEmail = token.subject();
+        request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, token);
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtBlackListService.isBlacklisted(jti)) {
-                log.debug("Authentication rejected: token is blacklisted. JTI={}", jti);
+            if (jwtBlackListService.isBlacklisted(token.jti())) {
+                log.debug("Authentication rejected: token is blacklisted. JTI={}", token.jti());
                 return;
             }
 
-            UserDetails userDetails = this.userService.loadUserByUsername(userEmail);
+            if (tokenRevocationService.isRevoked(token)) {
+                log.debug("Authentication rejected: token issued before the user's revocation watermark. JTI={}", token.jti());
+                return;
+            }
+
+            UserDetails userDetails = loadUserDetails(token);
+            if (!userDetails.isEnabled()) {
+                log.debug("Authentication rejected: account is disabled. JTI={}", token.jti());
+                return;
+            }
 
-            if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
-                String role = jwtService.extractRole(jwt);
+            if (jwtService.isTokenValid(token, userDetails.getUsername())) {
+                String role = token.role();
                 List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -102,4 +115,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
     }
+
+    private UserDetails loadUserDetails(VerifiedToken token) {
+        if (!jwtProperties.isStatelessAuthentication() || token.userId() == null) {
+            return this.userService.loadUserByUsername(token.subject());
+        }
+
+        return CustomUserDetails.fromToken(token);
+    }
 }
\ No newline at end of file
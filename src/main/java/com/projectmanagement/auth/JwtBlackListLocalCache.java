@@ -0,0 +1,94 @@
+package com.projectmanagement.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class JwtBlackListLocalCache {
+
+    private final JwtBlackListProperties properties;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private volatile boolean synchronizedWithRedis = false;
+    private volatile boolean overflowed = false;
+    private volatile boolean tracking = false;
+
+    public JwtBlackListLocalCache(JwtBlackListProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isAuthoritative() {
+        return properties.isLocalCacheEnabled() && synchronizedWithRedis && !overflowed;
+    }
+
+    public boolean contains(String jti) {
+        Long expiresAt = revokedTokens.get(jti);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            revokedTokens.remove(jti, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void add(String jti, long expiresAt) {
+        if (!tracking) {
+            return;
+        }
+        if (revokedTokens.size() >= properties.getLocalCacheMaxEntries() && !revokedTokens.containsKey(jti)) {
+            purgeExpired();
+            if (revokedTokens.size() >= properties.getLocalCacheMaxEntries()) {
+                if (!overflowed) {
+                    log.warn("Local blacklist cache reached {} entries, falling back to Redis lookups",
+                            properties.getLocalCacheMaxEntries());
+                }
+                overflowed = true;
+                return;
+            }
+        }
+        revokedTokens.merge(jti, expiresAt, Math::max);
+    }
+
+    public void remove(String jti) {
+        revokedTokens.remove(jti);
+    }
+
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int sizeBefore = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        return sizeBefore - revokedTokens.size();
+    }
+
+    public void beginSynchronization() {
+        synchronizedWithRedis = false;
+        tracking = true;
+        revokedTokens.clear();
+        overflowed = false;
+    }
+
+    public void completeSynchronization() {
+        synchronizedWithRedis = true;
+    }
+
+    public void clear() {
+        revokedTokens.clear();
+        overflowed = false;
+    }
+
+    public void invalidate() {
+        synchronizedWithRedis = false;
+        tracking = false;
+        revokedTokens.clear();
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+}
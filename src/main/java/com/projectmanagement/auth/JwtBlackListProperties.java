@@ -13,12 +13,32 @@ public class JwtBlackListProperties {
 
     private String keyPrefix = "jwt:blacklist";
     private int ttlBufferSeconds = 300; // 5 minutes buffer before JWT expiration
+    private int countBucketSeconds = 60; // granularity of the expiring blacklist counters
+
+    private String eventsChannel = "jwt:blacklist:events";
+    private boolean localCacheEnabled = true;
+    private int localCacheMaxEntries = 100000;
+    private long localCacheHeartbeatIntervalMs = 10000; // silence for three intervals makes the cache non-authoritative
+    private long localCacheResyncIntervalMs = 600000;
+    private String localCacheHeartbeatChannel = "jwt:local-cache:heartbeat";
+
+    private String revocationKey = "jwt:revoked-before";
+    private String revocationEventsChannel = "jwt:revocation:events";
 
     @Override
     public String toString() {
         return "JwtBlackListProperties{" +
                 "keyPrefix='" + keyPrefix + '\'' +
                 ", ttlBufferSeconds=" + ttlBufferSeconds +
+                ", countBucketSeconds=" + countBucketSeconds +
+                ", eventsChannel='" + eventsChannel + '\'' +
+                ", localCacheEnabled=" + localCacheEnabled +
+                ", localCacheMaxEntries=" + localCacheMaxEntries +
+                ", localCacheHeartbeatIntervalMs=" + localCacheHeartbeatIntervalMs +
+                ", localCacheResyncIntervalMs=" + localCacheResyncIntervalMs +
+                ", localCacheHeartbeatChannel='" + localCacheHeartbeatChannel + '\'' +
+                ", revocationKey='" + revocationKey + '\'' +
+                ", revocationEventsChannel='" + revocationEventsChannel + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -2,11 +2,9 @@ package com.projectmanagement.auth;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -14,7 +12,8 @@ import java.util.Set;
 public class JwtBlackListService {
 
     private final JwtBlackListProperties properties;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenStore tokenStore;
+    private final JwtBlackListLocalCache localCache;
 
     public void blacklistToken(String jti, long expirationTime) {
         if (jti == null || jti.trim().isEmpty()) {
@@ -22,12 +21,13 @@ public class JwtBlackListService {
             return;
         }
 
-        String key = buildKey(jti);
         long ttlSeconds = calculateTtl(expirationTime);
 
         if (ttlSeconds > 0) {
-            redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
-            log.debug("Token blacklisted in Redis: JTI={}, TTL={}s", jti, ttlSeconds);
+            tokenStore.blacklistAccessToken(jti, Duration.ofSeconds(ttlSeconds));
+            log.debug("Token blacklisted: JTI={}, TTL={}s", jti, ttlSeconds);
+
+            localCache.add(jti, System.currentTimeMillis() + ttlSeconds * 1000);
         } else {
             log.warn("Token already expired, not adding to blacklist: JTI={}", jti);
         }
@@ -38,34 +38,31 @@ public class JwtBlackListService {
             return false;
         }
 
-        String key = buildKey(jti);
-        Boolean exists = redisTemplate.hasKey(key);
-        boolean isBlacklisted = Boolean.TRUE.equals(exists);
+        if (localCache.isAuthoritative()) {
+            boolean isBlacklisted = localCache.contains(jti);
+            log.debug("Blacklist check (local cache): JTI={}, isBlacklisted={}", jti, isBlacklisted);
+            return isBlacklisted;
+        }
+
+        boolean isBlacklisted = tokenStore.isAccessTokenBlacklisted(jti);
 
         log.debug("Blacklist check: JTI={}, isBlacklisted={}", jti, isBlacklisted);
         return isBlacklisted;
     }
 
     public int getBlacklistedTokensCount() {
-        String pattern = properties.getKeyPrefix() + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys != null ? keys.size() : 0;
+        return (int) Math.min(tokenStore.countBlacklistedAccessTokens(), Integer.MAX_VALUE);
     }
 
     public void clearAll() {
-        String pattern = properties.getKeyPrefix() + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
+        long removed = tokenStore.clearAccessTokenBlacklist();
 
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Cleared all blacklisted tokens from Redis. Removed {} tokens", keys.size());
+        if (removed > 0) {
+            log.info("Cleared all blacklisted tokens. Removed {} tokens", removed);
         } else {
             log.info("No blacklisted tokens found to clear");
         }
-    }
-
-    private String buildKey(String jti) {
-        return properties.getKeyPrefix() + ":" + jti;
+        localCache.clear();
     }
 
     private long calculateTtl(long expirationTime) {
@@ -73,4 +70,4 @@ public class JwtBlackListService {
         long ttlMillis = expirationTime - currentTime + (properties.getTtlBufferSeconds() * 1000L);
         return Math.max(0, ttlMillis / 1000);
     }
-}
\ No newline at end of file
+}
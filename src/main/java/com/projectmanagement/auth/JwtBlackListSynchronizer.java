@@ -0,0 +1,102 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JwtBlackListSynchronizer implements MessageListener, GuardedLocalCache {
+
+    static final String CLEAR_EVENT = "CLEAR";
+    private static final String EVENT_SEPARATOR = "|";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final JwtBlackListProperties properties;
+    private final JwtProperties jwtProperties;
+    private final JwtBlackListLocalCache localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    static String addedEvent(String jti, long expiresAt) {
+        return expiresAt + EVENT_SEPARATOR + jti;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isLocalCacheEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getEventsChannel()));
+        }
+    }
+
+    @Override
+    public boolean synchronize() {
+        localCache.beginSynchronization();
+        long expiresAt = System.currentTimeMillis() + jwtProperties.getExpiration()
+                + properties.getTtlBufferSeconds() * 1000L;
+        String prefix = properties.getKeyPrefix() + ":";
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> localCache.add(key.substring(prefix.length()), expiresAt));
+            localCache.completeSynchronization();
+            log.info("Local blacklist cache synchronized with Redis: {} revoked tokens", localCache.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Could not synchronize local blacklist cache, falling back to Redis lookups: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        localCache.invalidate();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.redis.local-cache-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = localCache.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged {} expired entries from local blacklist cache", purged);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (CLEAR_EVENT.equals(event)) {
+            localCache.clear();
+            log.debug("Local blacklist cache cleared by remote event");
+            return;
+        }
+
+        int separator = event.indexOf(EVENT_SEPARATOR);
+        if (separator <= 0) {
+            log.warn("Ignoring malformed blacklist event: {}", event);
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(event.substring(0, separator));
+            localCache.add(event.substring(separator + 1), expiresAt);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed blacklist event: {}", event);
+        }
+    }
+}
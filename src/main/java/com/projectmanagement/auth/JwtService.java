@@ -4,93 +4,76 @@ import com.projectmanagement.config.JwtProperties;
 import com.projectmanagement.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
     private final JwtProperties jwtProperties;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final TokenRevocationService tokenRevocationService;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtService(JwtProperties jwtProperties, TokenRevocationService tokenRevocationService) {
+        this.jwtProperties = jwtProperties;
+        this.tokenRevocationService = tokenRevocationService;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(User user) {
+        return generateToken(user.getId(), user.getEmail(), user.getUsername(), user.getRole().name(), user.getEnabled());
+    }
+
+    public String generateToken(CustomUserDetails user) {
+        return generateToken(user.getId(), user.getEmail(), user.getAccountUsername(), user.getRole(), user.isEnabled());
+    }
+
+    private String generateToken(UUID userId, String email, String username, String role, boolean enabled) {
         Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("role", user.getRole().name());
-        extraClaims.put("username", user.getUsername());
-        return generateToken(extraClaims, user.getEmail());
+        extraClaims.put("role", role);
+        extraClaims.put("username", username);
+        extraClaims.put("uid", userId.toString());
+        extraClaims.put("enabled", enabled);
+        return generateToken(extraClaims, email, tokenRevocationService.issuedAt(userId));
     }
 
     public String generateToken(Map<String, Object> extraClaims, String subject) {
+        return generateToken(extraClaims, subject, new Date(System.currentTimeMillis()));
+    }
+
+    private String generateToken(Map<String, Object> extraClaims, String subject, Date issuedAt) {
         return Jwts.builder()
                 .claims(extraClaims)
                 .subject(subject)
                 .issuer(jwtProperties.getIssuer())
                 .id(UUID.randomUUID().toString())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                .signWith(getSigningKey())
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + jwtProperties.getExpiration()))
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, String userEmail) {
-        final String email = extractEmail(token);
-        return (email.equals(userEmail)) && !isTokenExpired(token);
-    }
-
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public String extractUsername(String token) {
-        return extractClaim(token, claims -> claims.get("username", String.class));
-    }
-
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-
-    public String extractJti(String token) {
-        return extractClaim(token, Claims::getId);
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
+    public VerifiedToken parseToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
         } catch (JwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             throw new IllegalArgumentException("Invalid JWT token", e);
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(VerifiedToken token, String userEmail) {
+        return token.subject().equals(userEmail) && !token.isExpired();
     }
-}
\ No newline at end of file
+}
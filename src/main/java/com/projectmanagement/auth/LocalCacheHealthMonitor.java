@@ -0,0 +1,141 @@
+package com.projectmanagement.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// The local caches' event channels share the listener container's connection, so a single heartbeat channel
+// tells whether their events are still being delivered. Events published while this node was unsubscribed are
+// lost, so a resubscription or a silent heartbeat channel makes every cache fall back to Redis lookups until a
+// heartbeat is heard again and the cache has been resynchronized.
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LocalCacheHealthMonitor implements MessageListener, SubscriptionListener {
+
+    static final String HEARTBEAT_EVENT = "PING";
+    private static final int MISSED_HEARTBEATS_BEFORE_STALE = 3;
+
+    private final JwtBlackListProperties properties;
+    private final List<GuardedLocalCache> caches;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile long lastHeardAt = System.currentTimeMillis();
+    private final AtomicLong heartbeatsHeard = new AtomicLong();
+    private volatile long heartbeatsHeardWhenStale;
+    private final Set<GuardedLocalCache> staleCaches = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isLocalCacheEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getLocalCacheHeartbeatChannel()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeAll() {
+        if (properties.isLocalCacheEnabled()) {
+            caches.forEach(this::synchronize);
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (properties.isLocalCacheEnabled()) {
+            markStale("subscribed to local cache heartbeats");
+        }
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        if (properties.isLocalCacheEnabled()) {
+            markStale("unsubscribed from local cache heartbeats");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.redis.local-cache-heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        if (!properties.isLocalCacheEnabled()) {
+            return;
+        }
+
+        long silentFor = System.currentTimeMillis() - lastHeardAt;
+        boolean silent = silentFor > MISSED_HEARTBEATS_BEFORE_STALE * properties.getLocalCacheHeartbeatIntervalMs();
+        if (silent && staleCaches.size() < caches.size()) {
+            markStale("no heartbeats for " + silentFor + " ms");
+        }
+        if (!staleCaches.isEmpty() && heartbeatsHeard.get() > heartbeatsHeardWhenStale) {
+            List.copyOf(staleCaches).forEach(this::synchronize);
+        }
+
+        try {
+            redisTemplate.convertAndSend(properties.getLocalCacheHeartbeatChannel(), HEARTBEAT_EVENT);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish local cache heartbeat: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.redis.local-cache-resync-interval-ms:600000}",
+            initialDelayString = "${jwt.blacklist.redis.local-cache-resync-interval-ms:600000}")
+    public void resync() {
+        if (!properties.isLocalCacheEnabled()) {
+            return;
+        }
+
+        // A stale cache is only trusted again through the heartbeat, once the channel is known to deliver
+        caches.stream()
+                .filter(cache -> !staleCaches.contains(cache))
+                .forEach(this::synchronize);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        lastHeardAt = System.currentTimeMillis();
+        heartbeatsHeard.incrementAndGet();
+    }
+
+    boolean isStale(GuardedLocalCache cache) {
+        return staleCaches.contains(cache);
+    }
+
+    private synchronized void synchronize(GuardedLocalCache cache) {
+        if (cache.synchronize()) {
+            staleCaches.remove(cache);
+        } else {
+            cache.invalidate();
+            requireResync(cache);
+        }
+    }
+
+    private synchronized void markStale(String reason) {
+        caches.forEach(cache -> {
+            cache.invalidate();
+            requireResync(cache);
+        });
+        log.info("Local caches marked stale: {}", reason);
+    }
+
+    private void requireResync(GuardedLocalCache cache) {
+        // Only a heartbeat that arrives after this point proves the subscription is alive
+        heartbeatsHeardWhenStale = heartbeatsHeard.get();
+        staleCaches.add(cache);
+    }
+}
@@ -0,0 +1,96 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.PasswordProperties;
+import com.projectmanagement.exception.LoginCapacityExceededException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final String CAPACITY_MESSAGE = "Too many login attempts in progress. Please retry shortly.";
+
+    private final PasswordProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(PasswordProperties properties) {
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getHashingPoolSize(),
+                properties.getHashingPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getHashingQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getHashingTimeout());
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        // A login that timed out while queued has already been answered with 503, so it must not hash,
+        // issue tokens or store a refresh token when a thread finally picks it up
+        Runnable work = () -> {
+            if (future.isDone() || System.nanoTime() - deadline > 0) {
+                future.completeExceptionally(new TimeoutException());
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        try {
+            executor.execute(work);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing pool saturated: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new LoginCapacityExceededException(CAPACITY_MESSAGE, e);
+        }
+
+        return future
+                .orTimeout(properties.getHashingTimeout(), TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        return result;
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        // Frees the queue slot right away instead of when a thread reaches the task
+                        executor.remove(work);
+                        log.warn("Password verification timed out after {}ms", properties.getHashingTimeout());
+                        throw new LoginCapacityExceededException(CAPACITY_MESSAGE, cause);
+                    }
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
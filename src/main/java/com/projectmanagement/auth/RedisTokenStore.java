@@ -0,0 +1,257 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisTokenStore implements TokenStore {
+
+    static final String REVOCATION_EVENT_SEPARATOR = "|";
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+    private static final String REFRESH_TOKENS_PREFIX = "refresh_tokens:";
+    private static final String REFRESH_BLACKLIST_PREFIX = "refresh_blacklist:";
+    private static final String LEGACY_REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final RedisScript<Long> BLACKLIST_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/blacklist-access-token.lua"), Long.class);
+    private static final RedisScript<Long> STORE_REFRESH_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/store-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_LEGACY_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/rotate-legacy-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> ADVANCE_WATERMARK_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/advance-revocation-watermark.lua"), Long.class);
+
+    private final JwtBlackListProperties properties;
+    private final JwtProperties jwtProperties;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // The blacklist script touches a token key and a shared count bucket, rotation touches a per-token and a
+    // per-user key, and counting and clearing use MGET and SCAN across prefixes. None of these share a cluster
+    // slot, so only a standalone or Sentinel-managed Redis is supported; a cluster is refused here instead of
+    // failing on the first logout with CROSSSLOT
+    @PostConstruct
+    void requireSingleKeyspace() {
+        if (redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory connectionFactory
+                && connectionFactory.isClusterAware()) {
+            throw new IllegalStateException("jwt.token-store.type=redis needs a standalone or Sentinel Redis, "
+                    + "not a cluster: its scripts and scans address keys in different slots");
+        }
+    }
+
+    @Override
+    public void blacklistAccessToken(String jti, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        long bucketMillis = properties.getCountBucketSeconds() * 1000L;
+        long bucket = expiresAt / bucketMillis;
+
+        // Only the call that creates the entry counts and announces it, so repeated logouts are not double counted
+        redisTemplate.execute(
+                BLACKLIST_SCRIPT,
+                List.of(blacklistKey(jti), countKeyPrefix() + bucket),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf((bucket + 1) * bucketMillis),
+                properties.isLocalCacheEnabled() ? properties.getEventsChannel() : "",
+                JwtBlackListSynchronizer.addedEvent(jti, expiresAt)
+        );
+    }
+
+    @Override
+    public boolean isAccessTokenBlacklisted(String jti) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(jti)));
+    }
+
+    @Override
+    public long countBlacklistedAccessTokens() {
+        List<String> counts = redisTemplate.opsForValue().multiGet(activeCountBucketKeys());
+        if (counts == null) {
+            return 0;
+        }
+
+        return counts.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::parseLong)
+                .sum();
+    }
+
+    @Override
+    public long clearAccessTokenBlacklist() {
+        long removed = unlinkMatching(properties.getKeyPrefix() + ":*");
+        unlinkMatching(countKeyPrefix() + "*");
+        publish(properties.getEventsChannel(), JwtBlackListSynchronizer.CLEAR_EVENT);
+        return removed;
+    }
+
+    @Override
+    public void storeRefreshToken(UUID userId, String jti, long expiresAt) {
+        redisTemplate.execute(
+                STORE_REFRESH_SCRIPT,
+                List.of(refreshTokensKey(userId)),
+                jti,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(expiresAt)
+        );
+    }
+
+    @Override
+    public boolean rotateRefreshToken(UUID userId, String currentJti, long currentExpiresAt, String newJti, long newExpiresAt) {
+        long now = System.currentTimeMillis();
+        long remainingSeconds = Math.max(0, (currentExpiresAt - now) / 1000);
+
+        Long rotated = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(REFRESH_BLACKLIST_PREFIX + currentJti, refreshTokensKey(userId)),
+                currentJti,
+                newJti,
+                String.valueOf(now),
+                String.valueOf(newExpiresAt),
+                String.valueOf(remainingSeconds)
+        );
+        return rotated != null && rotated == 1L;
+    }
+
+    @Override
+    public boolean rotateLegacyRefreshToken(UUID userId, String email, String currentJti, long currentExpiresAt,
+                                            String newJti, long newExpiresAt) {
+        long now = System.currentTimeMillis();
+        long remainingSeconds = Math.max(0, (currentExpiresAt - now) / 1000);
+
+        Long rotated = redisTemplate.execute(
+                ROTATE_LEGACY_SCRIPT,
+                List.of(REFRESH_BLACKLIST_PREFIX + currentJti, LEGACY_REFRESH_TOKEN_PREFIX + currentJti,
+                        refreshTokensKey(userId)),
+                email,
+                newJti,
+                String.valueOf(now),
+                String.valueOf(newExpiresAt),
+                String.valueOf(remainingSeconds)
+        );
+        return rotated != null && rotated == 1L;
+    }
+
+    @Override
+    public Map<String, Long> findRefreshTokens(UUID userId) {
+        String key = refreshTokensKey(userId);
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+
+        Set<ZSetOperations.TypedTuple<String>> tokens =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(key, now, Double.POSITIVE_INFINITY);
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (tokens != null) {
+            tokens.forEach(token -> result.put(token.getValue(), token.getScore().longValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean removeRefreshToken(UUID userId, String jti) {
+        Long removed = redisTemplate.opsForZSet().remove(refreshTokensKey(userId), jti);
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public void removeAllRefreshTokens(UUID userId) {
+        redisTemplate.delete(refreshTokensKey(userId));
+    }
+
+    @Override
+    public long advanceRevocationWatermark(UUID userId, long watermark) {
+        Long effective = redisTemplate.execute(
+                ADVANCE_WATERMARK_SCRIPT,
+                List.of(properties.getRevocationKey()),
+                userId.toString(),
+                String.valueOf(watermark)
+        );
+        long result = effective != null ? effective : watermark;
+
+        publish(properties.getRevocationEventsChannel(), userId + REVOCATION_EVENT_SEPARATOR + result);
+        return result;
+    }
+
+    @Override
+    public long findRevocationWatermark(UUID userId) {
+        Object watermark = redisTemplate.opsForHash().get(properties.getRevocationKey(), userId.toString());
+        return watermark != null ? Long.parseLong(watermark.toString()) : 0L;
+    }
+
+    private List<String> activeCountBucketKeys() {
+        long bucketMillis = properties.getCountBucketSeconds() * 1000L;
+        long now = System.currentTimeMillis();
+        long maxTtlMillis = jwtProperties.getExpiration() + properties.getTtlBufferSeconds() * 1000L;
+
+        List<String> keys = new ArrayList<>();
+        for (long bucket = now / bucketMillis; bucket <= (now + maxTtlMillis) / bucketMillis; bucket++) {
+            keys.add(countKeyPrefix() + bucket);
+        }
+        return keys;
+    }
+
+    private long unlinkMatching(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        long removed = 0;
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    removed += unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            removed += unlink(batch);
+        }
+        return removed;
+    }
+
+    private long unlink(List<String> keys) {
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private void publish(String channel, String event) {
+        if (properties.isLocalCacheEnabled()) {
+            redisTemplate.convertAndSend(channel, event);
+        }
+    }
+
+    private String blacklistKey(String jti) {
+        return properties.getKeyPrefix() + ":" + jti;
+    }
+
+    private String countKeyPrefix() {
+        return properties.getKeyPrefix() + "-count:";
+    }
+
+    private static String refreshTokensKey(UUID userId) {
+        return REFRESH_TOKENS_PREFIX + userId;
+    }
+}
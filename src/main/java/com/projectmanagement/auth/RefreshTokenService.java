@@ -1,163 +1,164 @@
 package com.projectmanagement.auth;
 
 import com.projectmanagement.config.JwtProperties;
+import com.projectmanagement.auth.dto.SessionResponse;
+import com.projectmanagement.exception.InvalidRefreshTokenException;
+import com.projectmanagement.exception.SessionNotFoundException;
 import com.projectmanagement.user.User;
 import com.projectmanagement.user.UserService;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RefreshTokenService {
 
     private final JwtProperties jwtProperties;
     private final UserService userService;
-    private final RedisTemplate<String, String> redisTemplate;
-
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenStore tokenStore;
+    private final SecretKey refreshSigningKey;
+    private final JwtParser refreshParser;
+
+    public RefreshTokenService(JwtProperties jwtProperties,
+                               UserService userService,
+                               TokenRevocationService tokenRevocationService,
+                               TokenStore tokenStore) {
+        this.jwtProperties = jwtProperties;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenStore = tokenStore;
+        this.refreshSigningKey = Keys.hmacShaKeyFor(jwtProperties.getRefreshSecret().getBytes());
+        this.refreshParser = Jwts.parser()
+                .verifyWith(refreshSigningKey)
+                .build();
+    }
 
     public String generateRefreshToken(User user) {
-        Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("type", "refresh");
-        extraClaims.put("role", user.getRole().name());
-        extraClaims.put("username", user.getUsername());
+        return generateRefreshToken(user.getId(), user.getEmail(), user.getUsername(), user.getRole().name());
+    }
 
-        String refreshToken = Jwts.builder()
-                .claims(extraClaims)
-                .subject(user.getEmail())
-                .issuer(jwtProperties.getIssuer())
-                .id(UUID.randomUUID().toString())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshExpiration()))
-                .signWith(getRefreshSigningKey())
-                .compact();
+    public String generateRefreshToken(CustomUserDetails user) {
+        return generateRefreshToken(user.getId(), user.getEmail(), user.getAccountUsername(), user.getRole());
+    }
+
+    private String generateRefreshToken(UUID userId, String email, String username, String role) {
+        String jti = UUID.randomUUID().toString();
+        Date issuedAt = tokenRevocationService.issuedAt(userId);
+        Date expiresAt = expiresAt(issuedAt);
+        String refreshToken = buildRefreshToken(userId, email, username, role, jti, issuedAt, expiresAt);
 
-        String jti = extractJti(refreshToken);
-        storeRefreshToken(jti, user.getEmail());
+        tokenStore.storeRefreshToken(userId, jti, expiresAt.getTime());
 
-        log.debug("Generated refresh token for user: {}", user.getEmail());
+        log.debug("Generated refresh token for user: {}", email);
         return refreshToken;
     }
 
-    public boolean isValidRefreshToken(String refreshToken) {
+    public VerifiedToken parseRefreshToken(String refreshToken) {
         try {
-            String jti = extractJti(refreshToken);
-            String email = extractEmail(refreshToken);
-
-            if (isRefreshTokenBlacklisted(jti)) {
-                log.warn("Refresh token is blacklisted: {}", jti);
-                return false;
-            }
-
-            if (isTokenExpired(refreshToken)) {
-                log.warn("Refresh token is expired for user: {}", email);
-                return false;
-            }
-
-            String storedEmail = getStoredEmail(jti);
-            if (!email.equals(storedEmail)) {
-                log.warn("Refresh token email mismatch. Token email: {}, Stored email: {}", email, storedEmail);
-                return false;
-            }
-
-            return true;
+            return VerifiedToken.from(refreshParser.parseSignedClaims(refreshToken).getPayload());
         } catch (JwtException e) {
             log.error("Invalid refresh token: {}", e.getMessage());
-            return false;
+            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
         }
     }
 
-    public User getUserFromRefreshToken(String refreshToken) {
-        String email = extractEmail(refreshToken);
-        return userService.findByEmail(email);
-    }
-
-    public void invalidateRefreshToken(String refreshToken) {
-        String jti = extractJti(refreshToken);
-        long expirationTime = extractExpiration(refreshToken).getTime();
-
-        blacklistRefreshToken(jti, expirationTime);
-        removeStoredToken(jti);
-
-        log.debug("Invalidated refresh token: {}", jti);
-    }
-
-    private void storeRefreshToken(String jti, String email) {
-        String key = REFRESH_TOKEN_PREFIX + jti;
-        long ttlSeconds = jwtProperties.getRefreshExpiration() / 1000;
-        redisTemplate.opsForValue().set(key, email, Duration.ofSeconds(ttlSeconds));
-    }
-
-    private String getStoredEmail(String jti) {
-        String key = REFRESH_TOKEN_PREFIX + jti;
-        return redisTemplate.opsForValue().get(key);
-    }
+    public User getUserFromRefreshToken(VerifiedToken refreshToken) {
+        if (tokenRevocationService.isRevoked(refreshToken)) {
+            log.warn("Refresh token issued before the user's revocation watermark: {}", refreshToken.jti());
+            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
+        }
 
-    private void removeStoredToken(String jti) {
-        String key = REFRESH_TOKEN_PREFIX + jti;
-        redisTemplate.delete(key);
+        User user = userService.findByEmail(refreshToken.subject());
+        if (refreshToken.userId() == null && tokenRevocationService.isRevoked(user.getId(), refreshToken.issuedAt())) {
+            log.warn("Legacy refresh token issued before the user's revocation watermark: {}", refreshToken.jti());
+            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
+        }
+        return user;
     }
 
-    private void blacklistRefreshToken(String jti, long expirationTime) {
-        String key = "refresh_blacklist:" + jti;
-        long ttlSeconds = Math.max(0, (expirationTime - System.currentTimeMillis()) / 1000);
-
-        if (ttlSeconds > 0) {
-            redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+    public String rotateRefreshToken(VerifiedToken currentToken, User user) {
+        boolean legacy = currentToken.userId() == null;
+        if (!legacy && !user.getId().equals(currentToken.userId())) {
+            log.warn("Refresh token {} does not belong to user {}", currentToken.jti(), user.getId());
+            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
         }
-    }
 
-    private boolean isRefreshTokenBlacklisted(String jti) {
-        String key = "refresh_blacklist:" + jti;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-    }
+        String newJti = UUID.randomUUID().toString();
+        Date issuedAt = tokenRevocationService.issuedAt(user.getId());
+        Date expiresAt = expiresAt(issuedAt);
+        String newRefreshToken = buildRefreshToken(user.getId(), user.getEmail(), user.getUsername(), user.getRole().name(),
+                newJti, issuedAt, expiresAt);
+
+        long newExpiresAt = expiresAt.getTime();
+        // Tokens issued before the per-user index carry no uid and are still accepted once, so a deploy does not
+        // log everyone out; they are moved into the index by their first rotation
+        boolean rotated = legacy
+                ? tokenStore.rotateLegacyRefreshToken(user.getId(), user.getEmail(), currentToken.jti(),
+                        currentToken.expiration().getTime(), newJti, newExpiresAt)
+                : tokenStore.rotateRefreshToken(user.getId(), currentToken.jti(), currentToken.expiration().getTime(),
+                        newJti, newExpiresAt);
+
+        if (!rotated) {
+            log.warn("Refresh token rejected during rotation: {}", currentToken.jti());
+            throw new InvalidRefreshTokenException("Invalid or expired refresh token");
+        }
 
-    private SecretKey getRefreshSigningKey() {
-        byte[] keyBytes = jwtProperties.getRefreshSecret().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        log.debug("Rotated refresh token {} to {}", currentToken.jti(), newJti);
+        return newRefreshToken;
     }
 
-    private String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public List<SessionResponse> listSessions(UUID userId) {
+        return tokenStore.findRefreshTokens(userId).entrySet().stream()
+                .map(session -> new SessionResponse(session.getKey(), Instant.ofEpochMilli(session.getValue())))
+                .toList();
     }
 
-    private String extractJti(String token) {
-        return extractClaim(token, Claims::getId);
+    public void revokeSession(UUID userId, String sessionId) {
+        if (!tokenStore.removeRefreshToken(userId, sessionId)) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        log.debug("Revoked refresh token {} of user {}", sessionId, userId);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public void revokeAllSessions(UUID userId) {
+        tokenStore.removeAllRefreshTokens(userId);
+        log.debug("Revoked all refresh tokens of user {}", userId);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // JWT times have second precision, so the expiry kept in the token store is exactly the signed one
+    private Date expiresAt(Date issuedAt) {
+        return new Date((issuedAt.getTime() + jwtProperties.getRefreshExpiration()) / 1000 * 1000);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
+    private String buildRefreshToken(UUID userId, String email, String username, String role, String jti,
+                                     Date issuedAt, Date expiresAt) {
+        Map<String, Object> extraClaims = new HashMap<>();
+        extraClaims.put("type", "refresh");
+        extraClaims.put("role", role);
+        extraClaims.put("username", username);
+        extraClaims.put("uid", userId.toString());
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getRefreshSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return Jwts.builder()
+                .claims(extraClaims)
+                .subject(email)
+                .issuer(jwtProperties.getIssuer())
+                .id(jti)
+                .issuedAt(issuedAt)
+                .expiration(expiresAt)
+                .signWith(refreshSigningKey)
+                .compact();
     }
-}
\ No newline at end of file
+}
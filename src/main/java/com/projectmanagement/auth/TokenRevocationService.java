@@ -0,0 +1,96 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final JwtBlackListProperties properties;
+    private final JwtProperties jwtProperties;
+    private final TokenStore tokenStore;
+
+    // userId -> epoch second before which every token issued to the user is revoked
+    private final Map<UUID, Long> watermarks = new ConcurrentHashMap<>();
+    private volatile boolean synchronizedWithStore;
+
+    public long revokeAll(UUID userId) {
+        long watermark = tokenStore.advanceRevocationWatermark(userId, System.currentTimeMillis() / 1000 + 1);
+        applyWatermark(userId, watermark);
+
+        log.info("All tokens issued to user {} before {} revoked", userId, watermark);
+        return watermark;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        UUID userId = token.userId();
+        if (userId == null) {
+            return false;
+        }
+        return isRevoked(userId, token.issuedAt());
+    }
+
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        long watermark = getWatermark(userId);
+        return watermark > 0 && (issuedAt == null || issuedAt.getTime() / 1000 < watermark);
+    }
+
+    public Date issuedAt(UUID userId) {
+        long now = System.currentTimeMillis();
+        return new Date(Math.max(now, getWatermark(userId) * 1000));
+    }
+
+    long getWatermark(UUID userId) {
+        if (isAuthoritative()) {
+            return watermarks.getOrDefault(userId, 0L);
+        }
+        return tokenStore.findRevocationWatermark(userId);
+    }
+
+    boolean isAuthoritative() {
+        return properties.isLocalCacheEnabled() && synchronizedWithStore;
+    }
+
+    void applyWatermark(UUID userId, long watermark) {
+        watermarks.merge(userId, watermark, Math::max);
+    }
+
+    void beginSynchronization() {
+        synchronizedWithStore = false;
+    }
+
+    void completeSynchronization() {
+        synchronizedWithStore = true;
+    }
+
+    // Watermarks only advance, so the cached ones stay correct; they may just be missing newer revocations
+    void invalidate() {
+        synchronizedWithStore = false;
+    }
+
+    int cachedWatermarks() {
+        return watermarks.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.redis.local-cache-purge-interval-ms:60000}")
+    public void purgeStale() {
+        long staleBefore = staleBefore();
+        watermarks.values().removeIf(watermark -> watermark < staleBefore);
+    }
+
+    // Watermarks older than the longest token lifetime can no longer match a live token.
+    long staleBefore() {
+        long maxLifetime = Math.max(jwtProperties.getExpiration(), jwtProperties.getRefreshExpiration());
+        return (System.currentTimeMillis() - maxLifetime) / 1000;
+    }
+}
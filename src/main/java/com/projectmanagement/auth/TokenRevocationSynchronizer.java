@@ -0,0 +1,88 @@
+package com.projectmanagement.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationSynchronizer implements MessageListener, GuardedLocalCache {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final JwtBlackListProperties properties;
+    private final TokenRevocationService revocationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isLocalCacheEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getRevocationEventsChannel()));
+        }
+    }
+
+    @Override
+    public boolean synchronize() {
+        revocationService.beginSynchronization();
+        long staleBefore = revocationService.staleBefore();
+        List<Object> staleUsers = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+
+        try (Cursor<Map.Entry<Object, Object>> entries = redisTemplate.opsForHash().scan(properties.getRevocationKey(), options)) {
+            entries.forEachRemaining(entry -> {
+                long watermark = Long.parseLong(entry.getValue().toString());
+                if (watermark < staleBefore) {
+                    staleUsers.add(entry.getKey());
+                } else {
+                    revocationService.applyWatermark(UUID.fromString(entry.getKey().toString()), watermark);
+                }
+            });
+            if (!staleUsers.isEmpty()) {
+                redisTemplate.opsForHash().delete(properties.getRevocationKey(), staleUsers.toArray());
+            }
+            revocationService.completeSynchronization();
+            log.info("Revocation watermarks synchronized with Redis: {} users, {} stale entries removed",
+                    revocationService.cachedWatermarks(), staleUsers.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Could not synchronize revocation watermarks, falling back to Redis lookups: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        revocationService.invalidate();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = event.indexOf(RedisTokenStore.REVOCATION_EVENT_SEPARATOR);
+
+        try {
+            UUID userId = UUID.fromString(event.substring(0, separator));
+            revocationService.applyWatermark(userId, Long.parseLong(event.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed revocation event: {}", event);
+        }
+    }
+}
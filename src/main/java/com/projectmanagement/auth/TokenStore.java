@@ -0,0 +1,48 @@
+package com.projectmanagement.auth;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TokenStore {
+
+    void blacklistAccessToken(String jti, Duration ttl);
+
+    boolean isAccessTokenBlacklisted(String jti);
+
+    long countBlacklistedAccessTokens();
+
+    long clearAccessTokenBlacklist();
+
+    void storeRefreshToken(UUID userId, String jti, long expiresAt);
+
+    /**
+     * Atomically replaces {@code currentJti} with {@code newJti} in the user's refresh tokens and
+     * remembers {@code currentJti} as used until {@code currentExpiresAt}. Returns false when the
+     * current token is unknown, expired or was already used.
+     */
+    boolean rotateRefreshToken(UUID userId, String currentJti, long currentExpiresAt, String newJti, long newExpiresAt);
+
+    /**
+     * Rotates a refresh token issued before tokens carried a user id, which is stored under its own
+     * key with the {@code email} it was issued to, into the user's refresh tokens. Returns false when
+     * the token is unknown, belongs to another email or was already used. Such tokens only exist for
+     * one refresh token lifetime after the per-user index was introduced.
+     */
+    boolean rotateLegacyRefreshToken(UUID userId, String email, String currentJti, long currentExpiresAt,
+                                     String newJti, long newExpiresAt);
+
+    Map<String, Long> findRefreshTokens(UUID userId);
+
+    boolean removeRefreshToken(UUID userId, String jti);
+
+    void removeAllRefreshTokens(UUID userId);
+
+    /**
+     * Moves the user's revocation watermark forward to {@code watermark} (epoch seconds) and
+     * returns the effective watermark, which never decreases.
+     */
+    long advanceRevocationWatermark(UUID userId, long watermark);
+
+    long findRevocationWatermark(UUID userId);
+}
@@ -0,0 +1,26 @@
+package com.projectmanagement.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt.token-store")
+@Getter
+@Setter
+public class TokenStoreProperties {
+
+    private String type = "redis"; // "redis" for shared deployments, "memory" for single-node ones
+    private String snapshotPath; // memory store only, restored on startup and written on shutdown
+    private long sweepIntervalMs = 60000;
+
+    @Override
+    public String toString() {
+        return "TokenStoreProperties{" +
+                "type='" + type + '\'' +
+                ", snapshotPath='" + snapshotPath + '\'' +
+                ", sweepIntervalMs=" + sweepIntervalMs +
+                '}';
+    }
+}
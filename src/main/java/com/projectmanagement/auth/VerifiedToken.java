@@ -0,0 +1,48 @@
+package com.projectmanagement.auth;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.UUID;
+
+public record VerifiedToken(
+        Claims claims,
+        String jti,
+        String subject,
+        String role,
+        Date issuedAt,
+        Date expiration
+) {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims,
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
+    public String username() {
+        return claims.get("username", String.class);
+    }
+
+    public UUID userId() {
+        String userId = claims.get("uid", String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+
+    // Tokens issued before the claim existed were only ever issued to enabled accounts
+    public boolean enabled() {
+        Boolean enabled = claims.get("enabled", Boolean.class);
+        return enabled == null || enabled;
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
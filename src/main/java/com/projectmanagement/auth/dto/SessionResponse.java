@@ -0,0 +1,9 @@
+package com.projectmanagement.auth.dto;
+
+import java.time.Instant;
+
+public record SessionResponse(
+    String id,
+    Instant expiresAt
+) {
+}
@@ -0,0 +1,5 @@
+package com.projectmanagement.config;
+
+// A null key means the whole cache was cleared
+public record CacheInvalidatedEvent(String cacheName, String key) {
+}
@@ -0,0 +1,11 @@
+package com.projectmanagement.config;
+
+public final class CacheNames {
+
+    public static final String USERS = "users";
+    public static final String PROJECT_DETAILS = "project-details";
+    public static final String TASK_SUMMARIES = "task-summaries";
+
+    private CacheNames() {
+    }
+}
@@ -17,7 +17,9 @@ public class JwtProperties {
 
     private String refreshSecret;
     private long refreshExpiration = 604800000; // 7 days in milliseconds
-    
+
+    private boolean statelessAuthentication = false; // build the principal from token claims instead of loading the user
+
     @Override
     public String toString() {
         return "JwtProperties{" +
@@ -26,6 +28,7 @@ public class JwtProperties {
                 ", issuer='" + issuer + '\'' +
                 ", refreshSecret='[PROTECTED]'" +
                 ", refreshExpiration=" + refreshExpiration +
+                ", statelessAuthentication=" + statelessAuthentication +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.local")
+@Getter
+@Setter
+public class LocalCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10000; // per cache
+    private long maxWeightBytes = 16 * 1024 * 1024; // per cache, measured as the encoded Redis value
+    private Duration ttl = Duration.ofSeconds(30); // bounds staleness if an invalidation message is lost
+    private String eventsChannel = "cache:invalidation:events";
+
+    @Override
+    public String toString() {
+        return "LocalCacheProperties{" +
+                "enabled=" + enabled +
+                ", maxEntries=" + maxEntries +
+                ", maxWeightBytes=" + maxWeightBytes +
+                ", ttl=" + ttl +
+                ", eventsChannel='" + eventsChannel + '\'' +
+                '}';
+    }
+}
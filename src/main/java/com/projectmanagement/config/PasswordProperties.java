@@ -0,0 +1,28 @@
+package com.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+@Getter
+@Setter
+public class PasswordProperties {
+
+    private int bcryptStrength = 10;
+    private int hashingPoolSize = Runtime.getRuntime().availableProcessors();
+    private int hashingQueueCapacity = 64;
+    private long hashingTimeout = 5000; // max time a login may wait for a hashing thread, in milliseconds
+
+    @Override
+    public String toString() {
+        return "PasswordProperties{" +
+                "bcryptStrength=" + bcryptStrength +
+                ", hashingPoolSize=" + hashingPoolSize +
+                ", hashingQueueCapacity=" + hashingQueueCapacity +
+                ", hashingTimeout=" + hashingTimeout +
+                '}';
+    }
+}
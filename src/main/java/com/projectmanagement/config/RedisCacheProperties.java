@@ -0,0 +1,34 @@
+package com.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.redis")
+@Getter
+@Setter
+public class RedisCacheProperties {
+
+    private String keyPrefix = "cache:";
+    private Duration defaultTtl = Duration.ofMinutes(15);
+    private Map<String, Duration> ttl = new HashMap<>(); // per cache name, falls back to defaultTtl
+
+    public Duration ttlFor(String cacheName) {
+        return ttl.getOrDefault(cacheName, defaultTtl);
+    }
+
+    @Override
+    public String toString() {
+        return "RedisCacheProperties{" +
+                "keyPrefix='" + keyPrefix + '\'' +
+                ", defaultTtl=" + defaultTtl +
+                ", ttl=" + ttl +
+                '}';
+    }
+}
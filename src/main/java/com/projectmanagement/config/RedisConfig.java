@@ -1,21 +1,34 @@
 package com.projectmanagement.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.project.dto.ProjectDetailResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import com.projectmanagement.user.dto.UserResponse;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -35,15 +48,64 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(15))
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             ObjectMapper objectMapper,
+                                             RedisCacheProperties redisProperties,
+                                             LocalCacheProperties localProperties,
+                                             ApplicationEventPublisher eventPublisher) {
+        Map<String, SmileRedisSerializer<?>> serializers = Map.of(
+                CacheNames.USERS, new SmileRedisSerializer<>(objectMapper, UserResponse.class),
+                CacheNames.PROJECT_DETAILS, new SmileRedisSerializer<>(objectMapper, ProjectDetailResponse.class),
+                CacheNames.TASK_SUMMARIES, new SmileRedisSerializer<>(objectMapper, TaskSummaryResponse.class));
+
+        Map<String, RedisCacheConfiguration> caches = new HashMap<>();
+        Map<String, ToIntFunction<Object>> weighers = new HashMap<>();
+        serializers.forEach((cacheName, serializer) -> {
+            caches.put(cacheName, cacheConfiguration(redisProperties, cacheName, serializer));
+            // L1 weight is the size of the value as stored in Redis, which tracks its heap footprint closely enough
+            weighers.put(cacheName, serializer::encodedSize);
+        });
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withInitialCacheConfigurations(caches)
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        // Evictions issued inside a transaction are applied after it commits, so a concurrent read cannot
+        // repopulate either level with the pre-commit value
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, localProperties, weighers, eventPublisher);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    // Picked up by the actuator cache metrics, which bind every cache of every cache manager at startup
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMeterBinder::new;
+    }
+
+    @Override
+    public CacheErrorHandler errorHandler() {
+        // A Redis outage degrades cached reads to database reads instead of failing the request
+        return new LoggingCacheErrorHandler();
+    }
+
+    private RedisCacheConfiguration cacheConfiguration(RedisCacheProperties properties, String cacheName,
+                                                       RedisSerializer<?> valueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(properties.ttlFor(cacheName))
+                .prefixCacheNameWith(properties.getKeyPrefix())
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new JdkSerializationRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
                 .disableCachingNullValues();
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+    // Shared by the token store synchronizers and the cross-node pub/sub gated by redis.pubsub.enabled
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
@@ -0,0 +1,57 @@
+package com.projectmanagement.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+// Binary JSON bound to one value type per cache, so no class names are written and readers are prebuilt
+public class SmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public SmileRedisSerializer(ObjectMapper objectMapper, Class<T> type) {
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        JavaType javaType = smileMapper.constructType(type);
+        this.reader = smileMapper.readerFor(javaType);
+        this.writer = smileMapper.writerFor(javaType);
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile value: " + e.getMessage(), e);
+        }
+    }
+
+    // Size of the value as stored in Redis. Encoding again is cheap next to the Redis round trip that
+    // precedes every L1 put, and keeps the weight independent of which thread touched Redis last
+    @SuppressWarnings("unchecked")
+    public int encodedSize(Object value) {
+        byte[] bytes = serialize((T) value);
+        return bytes != null ? bytes.length : 0;
+    }
+}
@@ -0,0 +1,262 @@
+package com.projectmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+// In-heap L1 in front of a shared L2. L1 is bounded by entry count and by encoded size, and every
+// eviction or clear is announced so other nodes drop their L1 copy. Cached values are immutable
+// records, so L1 hands out the same instance to every reader. L1 reads take no lock.
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final LocalCacheProperties properties;
+    private final ToIntFunction<Object> weigher;
+    private final Consumer<CacheInvalidatedEvent> invalidationPublisher;
+
+    private final Map<String, LocalEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // Bumped on every invalidation so an L2 read that raced with one is not copied into L1
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder localEvictions = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public TwoLevelCache(Cache remote, LocalCacheProperties properties, ToIntFunction<Object> weigher,
+                         Consumer<CacheInvalidatedEvent> invalidationPublisher) {
+        this.name = remote.getName();
+        this.remote = remote;
+        this.properties = properties;
+        this.weigher = weigher;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        if (properties.isEnabled()) {
+            Object value = getLocal(localKey);
+            if (value != null) {
+                localHits.increment();
+                return new SimpleValueWrapper(value);
+            }
+            localMisses.increment();
+        }
+
+        long generation = invalidations.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        putLocal(localKey, wrapper.get(), generation);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        long generation = invalidations.get();
+        remote.put(key, value);
+        puts.increment();
+        putLocal(localKey(key), value, generation);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        evictLocal(localKey);
+        invalidationPublisher.accept(new CacheInvalidatedEvent(name, localKey));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        invalidationPublisher.accept(new CacheInvalidatedEvent(name, null));
+    }
+
+    // Drops only this node's L1 copy, for invalidations announced by other nodes
+    public void evictLocal(String key) {
+        invalidations.incrementAndGet();
+        LocalEntry removed = entries.remove(key);
+        if (removed != null) {
+            weight.addAndGet(-removed.weight);
+        }
+    }
+
+    public void clearLocal() {
+        invalidations.incrementAndGet();
+        entries.forEach(this::removeLocal);
+    }
+
+    public Stats stats() {
+        return new Stats(localHits.sum(), localMisses.sum(), localEvictions.sum(), entries.size(), weight.get(),
+                remoteHits.sum(), remoteMisses.sum(), puts.sum());
+    }
+
+    private Object getLocal(String key) {
+        LocalEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            if (removeLocal(key, entry)) {
+                localEvictions.increment();
+            }
+            return null;
+        }
+        entry.lastAccess = System.nanoTime();
+        return entry.value;
+    }
+
+    private void putLocal(String key, Object value, long generation) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int entryWeight = weigher.applyAsInt(value);
+        if (entryWeight > properties.getMaxWeightBytes()) {
+            return;
+        }
+
+        if (invalidations.get() != generation) {
+            return;
+        }
+        LocalEntry entry = new LocalEntry(value, entryWeight, System.currentTimeMillis() + properties.getTtl().toMillis());
+        LocalEntry previous = entries.put(key, entry);
+        weight.addAndGet(entryWeight - (previous != null ? previous.weight : 0));
+
+        // An invalidation that landed between the check and the put must still win
+        if (invalidations.get() != generation) {
+            removeLocal(key, entry);
+            return;
+        }
+
+        if (entries.size() > properties.getMaxEntries() || weight.get() > properties.getMaxWeightBytes()) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    // Reads only stamp their entry, so recency is applied here by ordering a snapshot. Only one writer
+    // evicts at a time, and it trims a tenth below the bounds so a full cache does not sort on every put.
+    private void evictLeastRecentlyUsed() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int targetEntries = properties.getMaxEntries() - properties.getMaxEntries() / 10;
+            long targetWeight = properties.getMaxWeightBytes() - properties.getMaxWeightBytes() / 10;
+            if (entries.size() <= properties.getMaxEntries() && weight.get() <= properties.getMaxWeightBytes()) {
+                return;
+            }
+
+            List<Map.Entry<String, LocalEntry>> snapshot = new ArrayList<>(entries.entrySet());
+            snapshot.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+            for (Map.Entry<String, LocalEntry> eldest : snapshot) {
+                if (entries.size() <= targetEntries && weight.get() <= targetWeight) {
+                    break;
+                }
+                if (removeLocal(eldest.getKey(), eldest.getValue())) {
+                    localEvictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean removeLocal(String key, LocalEntry entry) {
+        if (!entries.remove(key, entry)) {
+            return false;
+        }
+        weight.addAndGet(-entry.weight);
+        return true;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static final class LocalEntry {
+
+        private final Object value;
+        private final int weight;
+        private final long expiresAt;
+        private volatile long lastAccess = System.nanoTime();
+
+        private LocalEntry(Object value, int weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public record Stats(long localHits, long localMisses, long localEvictions, int localEntries, long localWeightBytes,
+                        long remoteHits, long remoteMisses, long puts) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.projectmanagement.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+// Wraps every cache of the remote manager in a TwoLevelCache. Invalidations are published as
+// CacheInvalidatedEvents, which TwoLevelCacheSynchronizer relays to the other nodes. Per-tier
+// counters are published as cache metrics by TwoLevelCacheMeterBinder.
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheProperties properties;
+    private final Map<String, ToIntFunction<Object>> weighers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, LocalCacheProperties properties,
+                                Map<String, ToIntFunction<Object>> weighers, ApplicationEventPublisher eventPublisher) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.weighers = weighers;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<TwoLevelCache> caches = new ArrayList<>();
+        for (String cacheName : remoteCacheManager.getCacheNames()) {
+            TwoLevelCache cache = new TwoLevelCache(remoteCacheManager.getCache(cacheName), properties,
+                    weighers.getOrDefault(cacheName, value -> 0), eventPublisher::publishEvent);
+            twoLevelCaches.put(cacheName, cache);
+            caches.add(cache);
+        }
+        return caches;
+    }
+
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    public Map<String, TwoLevelCache.Stats> stats() {
+        Map<String, TwoLevelCache.Stats> stats = new ConcurrentHashMap<>();
+        twoLevelCaches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+}
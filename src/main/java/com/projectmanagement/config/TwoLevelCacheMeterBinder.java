@@ -0,0 +1,85 @@
+package com.projectmanagement.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+// Standard cache.* meters count a read as a hit when either level served it. The cache.tier.* meters
+// split reads by level, which is what shows whether L1 is sized right.
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    // The manager keeps its caches for the life of the context, so a strong reference leaks nothing
+    private final TwoLevelCache cache;
+
+    public TwoLevelCacheMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long size() {
+        return (long) cache.stats().localEntries();
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache.Stats stats = cache.stats();
+        return stats.localHits() + stats.remoteHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        return cache.stats().remoteMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return cache.stats().localEvictions();
+    }
+
+    @Override
+    protected long putCount() {
+        return cache.stats().puts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        tierCounter(registry, "local", "hit", TwoLevelCache.Stats::localHits);
+        tierCounter(registry, "local", "miss", TwoLevelCache.Stats::localMisses);
+        tierCounter(registry, "remote", "hit", TwoLevelCache.Stats::remoteHits);
+        tierCounter(registry, "remote", "miss", TwoLevelCache.Stats::remoteMisses);
+
+        FunctionCounter.builder("cache.tier.evictions", cache, c -> c.stats().localEvictions())
+                .tags(getTagsWithCacheName())
+                .tag("tier", "local")
+                .description("Entries dropped from L1 for its bounds or expiry")
+                .register(registry);
+
+        Gauge.builder("cache.tier.size", cache, c -> c.stats().localEntries())
+                .tags(getTagsWithCacheName())
+                .tag("tier", "local")
+                .description("Entries held in L1")
+                .register(registry);
+
+        Gauge.builder("cache.tier.weight", cache, c -> c.stats().localWeightBytes())
+                .tags(getTagsWithCacheName())
+                .tag("tier", "local")
+                .baseUnit("bytes")
+                .description("Encoded size of the entries held in L1")
+                .register(registry);
+    }
+
+    private void tierCounter(MeterRegistry registry, String tier, String result,
+                             ToDoubleFunction<TwoLevelCache.Stats> count) {
+        FunctionCounter.builder("cache.tier.gets", cache, c -> count.applyAsDouble(c.stats()))
+                .tags(getTagsWithCacheName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("Reads served or missed by one cache level")
+                .register(registry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.projectmanagement.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "redis.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TwoLevelCacheSynchronizer implements MessageListener {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final LocalCacheProperties properties;
+    private final TwoLevelCacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getEventsChannel()));
+        }
+    }
+
+    // Evictions reach this listener after commit, since the cache manager is transaction-aware
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(properties.getEventsChannel(),
+                    objectMapper.writeValueAsString(new Invalidation(instanceId, event.cacheName(), event.key())));
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to publish invalidation of cache {}: {}", event.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+            if (!instanceId.equals(invalidation.origin())) {
+                cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    record Invalidation(String origin, String cacheName, String key) {
+    }
+}
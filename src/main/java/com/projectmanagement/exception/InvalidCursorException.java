@@ -0,0 +1,8 @@
+package com.projectmanagement.exception;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
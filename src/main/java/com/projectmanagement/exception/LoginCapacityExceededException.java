@@ -0,0 +1,12 @@
+package com.projectmanagement.exception;
+
+public class LoginCapacityExceededException extends BusinessException {
+
+    public LoginCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public LoginCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
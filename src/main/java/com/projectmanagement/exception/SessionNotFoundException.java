@@ -0,0 +1,12 @@
+package com.projectmanagement.exception;
+
+public class SessionNotFoundException extends BusinessException {
+
+    public SessionNotFoundException(String sessionId) {
+        super(String.format("Session not found with ID: %s", sessionId));
+    }
+
+    public SessionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
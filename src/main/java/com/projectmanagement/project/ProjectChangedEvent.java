@@ -0,0 +1,6 @@
+package com.projectmanagement.project;
+
+import java.util.UUID;
+
+public record ProjectChangedEvent(UUID projectId) {
+}
@@ -3,13 +3,15 @@ package com.projectmanagement.project;
 import com.projectmanagement.project.dto.AddMemberRequest;
 import com.projectmanagement.project.dto.CreateProjectRequest;
 import com.projectmanagement.project.dto.ProjectDetailResponse;
-import com.projectmanagement.project.dto.ProjectResponse;
+import com.projectmanagement.project.dto.ProjectMemberResponse;
 import com.projectmanagement.project.dto.UpdateProjectRequest;
+import com.projectmanagement.project.dto.UserProjectResponse;
 import com.projectmanagement.validation.AllowSortFields;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -28,11 +30,12 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @GetMapping
-    public ResponseEntity<Page<ProjectResponse>> getUserProjects(
+    public ResponseEntity<Slice<UserProjectResponse>> getUserProjects(
             Authentication authentication,
-            @AllowSortFields({"id", "name", "description", "createdAt", "updatedAt"}) Pageable pageable) {
+            @AllowSortFields({"id", "name", "description", "createdAt", "updatedAt"}) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withCount) {
 
-        Page<ProjectResponse> projects = projectService.getUserProjects(authentication, pageable);
+        Slice<UserProjectResponse> projects = projectService.getUserProjects(authentication, pageable, withCount);
         return ResponseEntity.ok(projects);
     }
 
@@ -45,6 +48,16 @@ public class ProjectController {
         return ResponseEntity.ok(projectDetails);
     }
 
+    @GetMapping("/{id}/members")
+    public ResponseEntity<Page<ProjectMemberResponse>> getProjectMembers(
+            @PathVariable UUID id,
+            Authentication authentication,
+            Pageable pageable) {
+
+        Page<ProjectMemberResponse> members = projectService.getProjectMembers(id, pageable, authentication);
+        return ResponseEntity.ok(members);
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('PROJECT_MANAGER')")
     public ResponseEntity<Void> createProject(
@@ -0,0 +1,97 @@
+package com.projectmanagement.project;
+
+import com.projectmanagement.config.CacheNames;
+import com.projectmanagement.exception.ProjectNotFoundException;
+import com.projectmanagement.project.dto.ProjectDetailResponse;
+import com.projectmanagement.project.dto.ProjectMemberResponse;
+import com.projectmanagement.task.TaskCounterService;
+import com.projectmanagement.task.TaskEventEnvelope;
+import com.projectmanagement.task.TaskService;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDetailAssembler {
+
+    private static final Sort TASK_PREVIEW_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectMemberMapper projectMemberMapper;
+    private final TaskService taskService;
+    private final TaskCounterService taskCounterService;
+    private final ProjectDetailProperties detailProperties;
+    private final ProjectQueryFanOut queryFanOut;
+
+    // Callers check membership first; the assembled detail itself is the same for every member
+    @Cacheable(cacheNames = CacheNames.PROJECT_DETAILS, key = "#projectId")
+    public ProjectDetailResponse assemble(UUID projectId) {
+        Project project;
+        Page<ProjectMemberResponse> members;
+        TaskSummaryResponse taskSummary;
+        TaskSliceResponse tasks;
+
+        // The four reads are independent, so they run side by side and the slowest one sets the latency.
+        // Only previews are embedded; the rest is reached through the members page and the task scroll cursor
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            Supplier<Project> projectQuery = scope.fork(() -> projectRepository.findById(projectId)
+                    .orElseThrow(() -> new ProjectNotFoundException(projectId)));
+            Supplier<Page<ProjectMemberResponse>> membersQuery = scope.fork(() -> projectMemberRepository
+                    .findProjectMembersWithUsers(projectId, PageRequest.of(0, detailProperties.getMemberPreviewSize()))
+                    .map(projectMemberMapper::toResponse));
+            Supplier<TaskSummaryResponse> summaryQuery = scope.fork(() -> taskCounterService.getSummary(projectId));
+            Supplier<TaskSliceResponse> tasksQuery = scope.fork(() -> taskService.sliceProjectTasks(projectId, null, null,
+                    detailProperties.getTaskPreviewSize(), TASK_PREVIEW_SORT));
+
+            scope.join();
+            project = projectQuery.get();
+            members = membersQuery.get();
+            taskSummary = summaryQuery.get();
+            tasks = tasksQuery.get();
+        }
+
+        ProjectDetailResponse response = projectMapper.toDetailResponse(
+                project, members.getTotalElements(), members.getContent(), taskSummary, tasks);
+        log.info("Assembled project details for project: {} with {} members and {} tasks",
+                projectId, response.memberCount(), taskSummary.total());
+
+        return response;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheNames.PROJECT_DETAILS, key = "#event.projectId()")
+    public void onProjectChanged(ProjectChangedEvent event) {
+        log.debug("Evicting cached detail of changed project {}", event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheNames.PROJECT_DETAILS, key = "#event.projectId()")
+    public void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        log.debug("Evicting cached detail of project {} after a membership change", event.projectId());
+    }
+
+    // Relayed copies are skipped: the originating node's eviction already clears the shared L2 and is
+    // announced to every other node's L1, so one eviction per task event is enough cluster-wide
+    @EventListener(condition = "#envelope.origin() == @taskEventBroadcaster.instanceId")
+    @CacheEvict(cacheNames = CacheNames.PROJECT_DETAILS, key = "#envelope.event().projectId()")
+    public void onTaskEvent(TaskEventEnvelope envelope) {
+        log.debug("Evicting cached detail of project {} after task event {}", envelope.event().projectId(), envelope.id());
+    }
+}
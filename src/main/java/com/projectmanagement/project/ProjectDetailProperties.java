@@ -0,0 +1,30 @@
+package com.projectmanagement.project;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "project.detail")
+@Getter
+@Setter
+public class ProjectDetailProperties {
+
+    private int taskPreviewSize = 20;
+    private int memberPreviewSize = 20;
+    private boolean fanOutEnabled = true;
+    private int fanOutMaxConnections = 4; // across all requests, keep well below the connection pool size
+    private int fanOutConnectionsPerRequest = 3;
+
+    @Override
+    public String toString() {
+        return "ProjectDetailProperties{" +
+                "taskPreviewSize=" + taskPreviewSize +
+                ", memberPreviewSize=" + memberPreviewSize +
+                ", fanOutEnabled=" + fanOutEnabled +
+                ", fanOutMaxConnections=" + fanOutMaxConnections +
+                ", fanOutConnectionsPerRequest=" + fanOutConnectionsPerRequest +
+                '}';
+    }
+}
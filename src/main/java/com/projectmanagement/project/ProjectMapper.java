@@ -4,7 +4,10 @@ import com.projectmanagement.project.dto.CreateProjectRequest;
 import com.projectmanagement.project.dto.ProjectDetailResponse;
 import com.projectmanagement.project.dto.ProjectMemberResponse;
 import com.projectmanagement.project.dto.ProjectResponse;
-import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.project.dto.UserProjectResponse;
+import com.projectmanagement.project.dto.UserProjectView;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -22,13 +25,18 @@ public interface ProjectMapper {
 
     ProjectResponse toResponse(Project project);
 
+    UserProjectResponse toUserProjectResponse(UserProjectView view);
+
     @Mapping(source = "project.id", target = "id")
     @Mapping(source = "project.name", target = "name")
     @Mapping(source = "project.description", target = "description")
     @Mapping(source = "project.ownerId", target = "ownerId")
     @Mapping(source = "project.createdAt", target = "createdAt")
     @Mapping(source = "project.updatedAt", target = "updatedAt")
+    @Mapping(source = "memberCount", target = "memberCount")
     @Mapping(source = "members", target = "members")
+    @Mapping(source = "taskSummary", target = "taskSummary")
     @Mapping(source = "tasks", target = "tasks")
-    ProjectDetailResponse toDetailResponse(Project project, List<ProjectMemberResponse> members, List<TaskResponse> tasks);
+    ProjectDetailResponse toDetailResponse(Project project, long memberCount, List<ProjectMemberResponse> members,
+                                           TaskSummaryResponse taskSummary, TaskSliceResponse tasks);
 }
\ No newline at end of file
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "project_members")
+@Table(name = "project_members", indexes = {
+        @Index(name = "idx_project_members_user_project", columnList = "user_id, project_id")
+})
 @IdClass(ProjectMemberId.class)
 @Data
 @EqualsAndHashCode(of = {"projectId", "userId"})
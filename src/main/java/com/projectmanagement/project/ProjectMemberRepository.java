@@ -2,13 +2,17 @@ package com.projectmanagement.project;
 
 import com.projectmanagement.project.dto.ProjectMemberView;
 import com.projectmanagement.project.enums.ProjectMemberRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -24,11 +28,21 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Pr
 
     boolean existsByProjectIdAndUserIdAndRole(UUID projectId, UUID userId, ProjectMemberRole role);
 
-    @Query("SELECT u.id as userId, u.username as username, u.email as email, pm.role as role, pm.joinedAt as joinedAt FROM ProjectMember pm JOIN User u ON pm.userId = u.id WHERE pm.projectId = :projectId")
-    List<ProjectMemberView> findProjectMembersWithUsers(@Param("projectId") UUID projectId);
+    @Query(value = "SELECT u.id as userId, u.username as username, u.email as email, pm.role as role, pm.joinedAt as joinedAt FROM ProjectMember pm JOIN User u ON pm.userId = u.id WHERE pm.projectId = :projectId ORDER BY pm.joinedAt, pm.userId",
+            countQuery = "SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.projectId = :projectId")
+    Page<ProjectMemberView> findProjectMembersWithUsers(@Param("projectId") UUID projectId, Pageable pageable);
 
     @Query("SELECT u.id as userId, u.username as username, u.email as email, pm.role as role, pm.joinedAt as joinedAt FROM ProjectMember pm JOIN User u ON pm.userId = u.id WHERE pm.projectId = :projectId AND pm.userId = :userId")
     Optional<ProjectMemberView> findProjectMemberWithUser(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
 
+    @Query("SELECT pm.role FROM ProjectMember pm WHERE pm.projectId = :projectId AND pm.userId = :userId")
+    Optional<ProjectMemberRole> findRoleByProjectIdAndUserId(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    @Query("SELECT pm.userId FROM ProjectMember pm WHERE pm.projectId = :projectId AND pm.userId IN :userIds")
+    Set<UUID> findMemberUserIds(@Param("projectId") UUID projectId, @Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT pm.userId FROM ProjectMember pm WHERE pm.projectId = :projectId")
+    Set<UUID> findUserIdsByProjectId(@Param("projectId") UUID projectId);
+
     boolean existsByProjectIdAndUserIdAndRoleIn(UUID projectId, UUID userId, List<ProjectMemberRole> roles);
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.projectmanagement.project;
+
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class ProjectMembershipCache {
+
+    private final ProjectMembershipCacheProperties properties;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final Map<ProjectMemberId, CachedRole> roles = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so a lookup that raced with a membership change is not cached.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProjectMembershipCache(ProjectMembershipCacheProperties properties,
+                                  ProjectMemberRepository projectMemberRepository) {
+        this.properties = properties;
+        this.projectMemberRepository = projectMemberRepository;
+    }
+
+    public Optional<ProjectMemberRole> getRole(UUID projectId, UUID userId) {
+        if (!properties.isEnabled()) {
+            return projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId);
+        }
+
+        ProjectMemberId key = new ProjectMemberId(projectId, userId);
+        CachedRole cached = roles.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() >= System.currentTimeMillis()) {
+                return cached.role();
+            }
+            roles.remove(key, cached);
+        }
+
+        long generation = invalidations.get();
+        Optional<ProjectMemberRole> role = projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId);
+        if (invalidations.get() == generation) {
+            CachedRole entry = new CachedRole(role, System.currentTimeMillis() + properties.getTtl().toMillis());
+            if (roles.size() >= properties.getMaxEntries()) {
+                purge();
+            }
+            roles.put(key, entry);
+            // An invalidation that landed between the check and the put must still win
+            if (invalidations.get() != generation) {
+                roles.remove(key, entry);
+            }
+        }
+        return role;
+    }
+
+    public boolean isMember(UUID projectId, UUID userId) {
+        return getRole(projectId, userId).isPresent();
+    }
+
+    public boolean hasAnyRole(UUID projectId, UUID userId, Collection<ProjectMemberRole> allowedRoles) {
+        return getRole(projectId, userId).filter(allowedRoles::contains).isPresent();
+    }
+
+    public void evict(UUID projectId, UUID userId) {
+        invalidations.incrementAndGet();
+        roles.remove(new ProjectMemberId(projectId, userId));
+        log.debug("Evicted cached membership of user {} in project {}", userId, projectId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        evict(event.projectId(), event.userId());
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        roles.clear();
+    }
+
+    int size() {
+        return roles.size();
+    }
+
+    // Drops expired entries first; if the cache is still full, arbitrary entries go until there is headroom
+    private void purge() {
+        long now = System.currentTimeMillis();
+        roles.values().removeIf(entry -> entry.expiresAt() < now);
+
+        int target = properties.getMaxEntries() - Math.max(1, properties.getMaxEntries() / 10);
+        Iterator<ProjectMemberId> keys = roles.keySet().iterator();
+        while (roles.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record CachedRole(Optional<ProjectMemberRole> role, long expiresAt) {
+    }
+}
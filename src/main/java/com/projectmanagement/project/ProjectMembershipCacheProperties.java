@@ -0,0 +1,30 @@
+package com.projectmanagement.project;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "project.membership-cache")
+@Getter
+@Setter
+public class ProjectMembershipCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10000;
+    private Duration ttl = Duration.ofSeconds(60); // bounds staleness if an invalidation message is lost
+    private String eventsChannel = "project:membership:events";
+
+    @Override
+    public String toString() {
+        return "ProjectMembershipCacheProperties{" +
+                "enabled=" + enabled +
+                ", maxEntries=" + maxEntries +
+                ", ttl=" + ttl +
+                ", eventsChannel='" + eventsChannel + '\'' +
+                '}';
+    }
+}
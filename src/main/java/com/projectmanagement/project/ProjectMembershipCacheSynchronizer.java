@@ -0,0 +1,53 @@
+package com.projectmanagement.project;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@ConditionalOnProperty(name = "redis.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectMembershipCacheSynchronizer implements MessageListener {
+
+    private final ProjectMembershipCacheProperties properties;
+    private final ProjectMembershipCache membershipCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        if (properties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getEventsChannel()));
+        }
+    }
+
+    // Published even with the cache disabled: other instances also close the user's task event streams
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        redisTemplate.convertAndSend(properties.getEventsChannel(), event.toMessage());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            ProjectMembershipChangedEvent change = ProjectMembershipChangedEvent.fromMessage(event);
+            membershipCache.evict(change.projectId(), change.userId());
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed membership event: {}", event);
+        }
+    }
+}
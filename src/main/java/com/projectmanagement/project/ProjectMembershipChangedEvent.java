@@ -0,0 +1,22 @@
+package com.projectmanagement.project;
+
+import java.util.UUID;
+
+public record ProjectMembershipChangedEvent(UUID projectId, UUID userId) {
+
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    // Wire format of the cross-node membership channel
+    public String toMessage() {
+        return projectId + MESSAGE_SEPARATOR + userId;
+    }
+
+    public static ProjectMembershipChangedEvent fromMessage(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed membership event: " + message);
+        }
+        return new ProjectMembershipChangedEvent(UUID.fromString(message.substring(0, separator)),
+                UUID.fromString(message.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.projectmanagement.project;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+// Runs independent reads concurrently, each in its own read-only transaction on a virtual thread.
+// Every forked read holds a pooled connection, so forks are capped per request and across requests;
+// a read over either budget runs on the caller instead of waiting for a connection.
+@Component
+@Slf4j
+public class ProjectQueryFanOut {
+
+    private final ProjectDetailProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore connectionBudget;
+    private final ExecutorService executor;
+
+    public ProjectQueryFanOut(ProjectDetailProperties properties, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.connectionBudget = new Semaphore(properties.getFanOutMaxConnections());
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("project-query-", 0).factory());
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public class Scope implements AutoCloseable {
+
+        private final List<CompletableFuture<?>> forks = new ArrayList<>();
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        public <T> Supplier<T> fork(Supplier<T> query) {
+            Supplier<T> transactional = () -> readOnlyTransaction.execute(status -> query.get());
+
+            if (!properties.isFanOutEnabled()
+                    || forks.size() >= properties.getFanOutConnectionsPerRequest()
+                    || !connectionBudget.tryAcquire()) {
+                T value = transactional.get();
+                return () -> value;
+            }
+
+            CompletableFuture<T> fork = new CompletableFuture<>();
+            try {
+                executor.execute(() -> {
+                    try {
+                        if (!fork.isDone()) {
+                            fork.complete(transactional.get());
+                        }
+                    } catch (Throwable failure) {
+                        fork.completeExceptionally(failure);
+                    } finally {
+                        connectionBudget.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                connectionBudget.release();
+                throw e;
+            }
+
+            fork.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    firstFailure.completeExceptionally(failure);
+                }
+            });
+            forks.add(fork);
+            return fork::join;
+        }
+
+        // Returns once every fork has finished, or throws the first failure without waiting for the rest
+        public void join() {
+            CompletableFuture<Void> all = CompletableFuture.allOf(forks.toArray(CompletableFuture[]::new));
+            try {
+                CompletableFuture.anyOf(all, firstFailure).join();
+            } catch (CompletionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            // Reads already running finish in the background; forks that have not started yet skip their query
+            forks.forEach(fork -> fork.cancel(false));
+        }
+    }
+}
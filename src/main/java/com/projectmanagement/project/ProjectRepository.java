@@ -1,7 +1,9 @@
 package com.projectmanagement.project;
 
+import com.projectmanagement.project.dto.UserProjectView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +19,19 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     boolean existsByNameAndOwnerId(String name, UUID ownerId);
 
-    @Query("SELECT p FROM Project p JOIN ProjectMember pm ON p.id = pm.projectId WHERE pm.userId = :userId")
-    Page<Project> findProjectsByUserId(@Param("userId") UUID userId, Pageable pageable);
+    // Open tasks are summed from the per-project counters rather than counted from the tasks table
+    String USER_PROJECTS_QUERY = "SELECT p.id as id, p.name as name, p.description as description, p.ownerId as ownerId, " +
+            "p.createdAt as createdAt, p.updatedAt as updatedAt, pm.role as role, " +
+            "(SELECT COUNT(m) FROM ProjectMember m WHERE m.projectId = p.id) as memberCount, " +
+            "(SELECT COALESCE(SUM(c.taskCount), 0) FROM ProjectTaskCounter c WHERE c.projectId = p.id " +
+            "AND c.status <> com.projectmanagement.task.enums.TaskStatus.DONE) as openTaskCount " +
+            "FROM Project p JOIN ProjectMember pm ON pm.projectId = p.id WHERE pm.userId = :userId";
+
+    // Every membership row points at an existing project, so the count never needs the join
+    @Query(value = USER_PROJECTS_QUERY,
+            countQuery = "SELECT COUNT(pm) FROM ProjectMember pm WHERE pm.userId = :userId")
+    Page<UserProjectView> findUserProjects(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(USER_PROJECTS_QUERY)
+    Slice<UserProjectView> findUserProjectsSlice(@Param("userId") UUID userId, Pageable pageable);
 }
\ No newline at end of file
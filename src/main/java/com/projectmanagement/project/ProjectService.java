@@ -7,16 +7,18 @@ import com.projectmanagement.exception.ProjectNotFoundException;
 import com.projectmanagement.exception.UserNotFoundException;
 import com.projectmanagement.project.dto.*;
 import com.projectmanagement.project.enums.ProjectMemberRole;
-import com.projectmanagement.task.TaskMapper;
-import com.projectmanagement.task.TaskRepository;
-import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.TaskCounterService;
 import com.projectmanagement.user.User;
 import com.projectmanagement.user.UserRepository;
 import com.projectmanagement.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,14 +33,18 @@ import java.util.UUID;
 @Slf4j
 public class ProjectService {
 
+    private static final Sort USER_PROJECTS_DEFAULT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectMapper projectMapper;
     private final ProjectMemberMapper projectMemberMapper;
     private final UserRepository userRepository;
     private final UserService userService;
-    private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
+    private final TaskCounterService taskCounterService;
+    private final ProjectMembershipCache membershipCache;
+    private final ProjectDetailAssembler projectDetailAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Project createProject(CreateProjectRequest request, Authentication authentication) {
@@ -57,17 +63,30 @@ public class ProjectService {
         createOwnerMembership(savedProject, owner);
         log.info("Owner membership created for project: {}", savedProject.getId());
 
+        taskCounterService.initializeProject(savedProject.getId());
+
         return savedProject;
     }
 
-    public Page<ProjectResponse> getUserProjects(Authentication authentication, Pageable pageable) {
+    // With withCount=false the total is skipped and one extra row is fetched to tell whether a next page exists
+    public Slice<UserProjectResponse> getUserProjects(Authentication authentication, Pageable pageable, boolean withCount) {
         UUID userId = CustomUserDetails.getUserId(authentication);
         log.debug("Getting projects for user ID: {}", userId);
 
-        Page<Project> projects = projectRepository.findProjectsByUserId(userId, pageable);
+        Pageable stablePageable = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), USER_PROJECTS_DEFAULT_SORT);
+
+        if (!withCount) {
+            Slice<UserProjectView> projects = projectRepository.findUserProjectsSlice(userId, stablePageable);
+            log.info("Found {} projects for user ID: {} (hasNext={})", projects.getNumberOfElements(), userId, projects.hasNext());
+            return projects.map(projectMapper::toUserProjectResponse);
+        }
+
+        Page<UserProjectView> projects = projectRepository.findUserProjects(userId, stablePageable);
 
         log.info("Found {} projects for user ID: {}", projects.getTotalElements(), userId);
-        return projects.map(projectMapper::toResponse);
+        return projects.map(projectMapper::toUserProjectResponse);
     }
 
     public ProjectDetailResponse getProjectDetails(UUID projectId, Authentication authentication) {
@@ -76,27 +95,24 @@ public class ProjectService {
 
         validateUserIsProjectMember(currentUserId, projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException(projectId));
-
-        List<ProjectMemberView> memberViews = projectMemberRepository.findProjectMembersWithUsers(projectId);
-        List<ProjectMemberResponse> memberResponses = memberViews.stream()
-                .map(projectMemberMapper::toResponse)
-                .toList();
+        // Membership is checked per caller; the assembled detail itself is the same for every member
+        return projectDetailAssembler.assemble(projectId);
+    }
 
-        List<TaskResponse> tasks = taskRepository.findByProjectId(projectId).stream()
-                .map(taskMapper::toResponse)
-                .toList();
+    public Page<ProjectMemberResponse> getProjectMembers(UUID projectId, Pageable pageable, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Getting members of project: {} by user: {}", projectId, authentication.getName());
 
-        ProjectDetailResponse response = projectMapper.toDetailResponse(project, memberResponses, tasks);
-        log.info("Retrieved project details for project: {} with {} members and {} tasks",
-                projectId, memberResponses.size(), tasks.size());
+        validateUserIsProjectMember(currentUserId, projectId);
 
-        return response;
+        // Members are always listed in join order, so any client sort is dropped
+        return projectMemberRepository.findProjectMembersWithUsers(projectId,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(projectMemberMapper::toResponse);
     }
 
     private void validateUserIsProjectMember(UUID userId, UUID projectId) {
-        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+        if (!membershipCache.isMember(projectId, userId)) {
             log.warn("User {} is not a member of project {}", userId, projectId);
             throw new ProjectMembershipException(userId.toString());
         }
@@ -120,6 +136,7 @@ public class ProjectService {
             if (member.getRole() != request.role()) {
                 member.setRole(request.role());
                 projectMemberRepository.save(member);
+                eventPublisher.publishEvent(new ProjectMembershipChangedEvent(projectId, request.userId()));
                 log.info("Updated member {} role to {} in project {}", request.userId(), request.role(), projectId);
             } else {
                 log.debug("Member {} already has role {} in project {}", request.userId(), request.role(), projectId);
@@ -132,6 +149,7 @@ public class ProjectService {
             projectMember.setJoinedAt(LocalDateTime.now());
 
             projectMemberRepository.save(projectMember);
+            eventPublisher.publishEvent(new ProjectMembershipChangedEvent(projectId, request.userId()));
             log.info("Added new member {} with role {} to project {}", request.userId(), request.role(), projectId);
         }
     }
@@ -144,7 +162,7 @@ public class ProjectService {
 
     private void validateUserHasPermissionToAddMembers(UUID userId, UUID projectId) {
         List<ProjectMemberRole> allowedRoles = List.of(ProjectMemberRole.OWNER, ProjectMemberRole.MANAGER);
-        boolean hasPermission = projectMemberRepository.existsByProjectIdAndUserIdAndRoleIn(projectId, userId, allowedRoles);
+        boolean hasPermission = membershipCache.hasAnyRole(projectId, userId, allowedRoles);
 
         if (!hasPermission) {
             throw new InsufficientProjectPermissionException("Only project owners and managers can add members to the project");
@@ -171,6 +189,7 @@ public class ProjectService {
         project.setDescription(request.description());
 
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
         log.info("Project {} updated successfully by user: {}", projectId, authentication.getName());
     }
@@ -189,6 +208,7 @@ public class ProjectService {
                 .orElseThrow(() -> new ProjectMembershipException(targetUserId.toString()));
 
         projectMemberRepository.delete(memberToRemove);
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(projectId, targetUserId));
 
         log.info("Successfully removed member {} from project {} by user: {}",
                 targetUserId, projectId, authentication.getName());
@@ -197,7 +217,7 @@ public class ProjectService {
 
     private void validateUserHasPermissionToRemoveMembers(UUID userId, UUID projectId) {
         List<ProjectMemberRole> allowedRoles = List.of(ProjectMemberRole.OWNER, ProjectMemberRole.MANAGER);
-        boolean hasPermission = projectMemberRepository.existsByProjectIdAndUserIdAndRoleIn(projectId, userId, allowedRoles);
+        boolean hasPermission = membershipCache.hasAnyRole(projectId, userId, allowedRoles);
 
         if (!hasPermission) {
             throw new InsufficientProjectPermissionException("Only project owners and managers can remove members from the project");
@@ -212,6 +232,7 @@ public class ProjectService {
         projectMember.setJoinedAt(LocalDateTime.now());
 
         projectMemberRepository.save(projectMember);
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(project.getId(), owner.getId()));
         log.debug("Created OWNER membership for user {} in project {}", owner.getId(), project.getId());
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.projectmanagement.project.dto;
 
-import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +14,8 @@ public record ProjectDetailResponse(
     UUID ownerId,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
+    long memberCount,
     List<ProjectMemberResponse> members,
-    List<TaskResponse> tasks
-) {}
\ No newline at end of file
+    TaskSummaryResponse taskSummary,
+    TaskSliceResponse tasks
+) {}
@@ -0,0 +1,18 @@
+package com.projectmanagement.project.dto;
+
+import com.projectmanagement.project.enums.ProjectMemberRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserProjectResponse(
+    UUID id,
+    String name,
+    String description,
+    UUID ownerId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    ProjectMemberRole role,
+    long memberCount,
+    long openTaskCount
+) {}
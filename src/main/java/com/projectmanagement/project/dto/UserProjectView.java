@@ -0,0 +1,18 @@
+package com.projectmanagement.project.dto;
+
+import com.projectmanagement.project.enums.ProjectMemberRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserProjectView {
+    UUID getId();
+    String getName();
+    String getDescription();
+    UUID getOwnerId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    ProjectMemberRole getRole();
+    long getMemberCount();
+    long getOpenTaskCount();
+}
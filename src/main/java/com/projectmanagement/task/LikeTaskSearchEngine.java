@@ -0,0 +1,95 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskSearchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Locale;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeTaskSearchEngine implements TaskSearchEngine {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskSearchProperties properties;
+
+    @Override
+    public Page<TaskSearchResult> search(String query, UUID callerId, UUID projectId, Pageable pageable) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        String pattern = "%" + escapeLike(term) + "%";
+
+        // Ranking is fixed (title matches first), so any client sort is dropped
+        Page<Task> tasks = taskRepository.searchByText(callerId, projectId, pattern,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        return tasks.map(task -> toResult(task, term));
+    }
+
+    private TaskSearchResult toResult(Task task, String term) {
+        boolean titleMatch = task.getTitle().toLowerCase(Locale.ROOT).contains(term);
+        boolean descriptionMatch = task.getDescription() != null
+                && task.getDescription().toLowerCase(Locale.ROOT).contains(term);
+
+        return new TaskSearchResult(
+                taskMapper.toResponse(task),
+                (titleMatch ? 1.0 : 0.0) + (descriptionMatch ? 0.4 : 0.0),
+                highlight(task.getTitle(), term),
+                descriptionMatch ? highlight(snippet(task.getDescription(), term), term) : null
+        );
+    }
+
+    private String snippet(String text, String term) {
+        if (text.length() <= properties.getSnippetLength()) {
+            return text;
+        }
+
+        int match = text.toLowerCase(Locale.ROOT).indexOf(term);
+        int start = Math.max(0, Math.min(match - properties.getSnippetLength() / 4, text.length() - properties.getSnippetLength()));
+        int end = Math.min(text.length(), start + properties.getSnippetLength());
+
+        return (start > 0 ? "..." : "") + text.substring(start, end) + (end < text.length() ? "..." : "");
+    }
+
+    // Task text is user input, so every segment is HTML-escaped before the markers are inserted
+    private String highlight(String text, String term) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() != text.length()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        int from = 0;
+        int match;
+
+        while ((match = lower.indexOf(term, from)) >= 0) {
+            highlighted.append(HtmlUtils.htmlEscape(text.substring(from, match)))
+                    .append(properties.getHighlightStart())
+                    .append(HtmlUtils.htmlEscape(text.substring(match, match + term.length())))
+                    .append(properties.getHighlightStop());
+            from = match + term.length();
+        }
+
+        return highlighted.append(HtmlUtils.htmlEscape(text.substring(from))).toString();
+    }
+
+    private static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.dto.TaskSearchResult;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+    // tasks.search_vector and its GIN index are created by db/schema-postgresql.sql, whose 'english'
+    // configuration every query and headline here must use for the index to match
+    private static final String MATCHING_TASKS = """
+            FROM tasks t
+            JOIN project_members pm ON pm.project_id = t.project_id AND pm.user_id = :callerId
+            CROSS JOIN websearch_to_tsquery('english', :query) AS q(query)
+            WHERE t.search_vector @@ q.query
+            """;
+
+    private static final String PROJECT_FILTER = "AND t.project_id = :projectId\n";
+
+    // ts_headline returns the raw task text, so matches are marked with control characters that survive
+    // HTML escaping and are swapped for the configured markers once the text is escaped
+    private static final String HIGHLIGHT_START_SENTINEL = "\u0002";
+    private static final String HIGHLIGHT_STOP_SENTINEL = "\u0003";
+
+    // Headlines are the expensive part, so they are only computed for the rows of the requested page
+    private static final String SEARCH_PAGE = """
+            SELECT ranked.*,
+                   ts_headline('english', ranked.title, ranked.query, :headlineOptions) AS title_highlight,
+                   CASE WHEN ranked.description IS NULL THEN NULL
+                        ELSE ts_headline('english', ranked.description, ranked.query, :headlineOptions)
+                   END AS description_highlight
+            FROM (
+                SELECT t.id, t.title, t.description, t.status, t.priority, t.project_id, t.assigned_user_id,
+                       t.created_by_id, t.created_at, t.updated_at, q.query,
+                       ts_rank(t.search_vector, q.query) AS score
+                %s%s
+                ORDER BY score DESC, t.id
+                LIMIT :limit OFFSET :offset
+            ) ranked
+            ORDER BY ranked.score DESC, ranked.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TaskSearchProperties properties;
+
+    @Override
+    public Page<TaskSearchResult> search(String query, UUID callerId, UUID projectId, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("callerId", callerId)
+                .addValue("projectId", projectId)
+                .addValue("headlineOptions", "StartSel=\"" + HIGHLIGHT_START_SENTINEL
+                        + "\", StopSel=\"" + HIGHLIGHT_STOP_SENTINEL
+                        + "\", MaxFragments=2")
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        String projectFilter = projectId != null ? PROJECT_FILTER : "";
+
+        List<TaskSearchResult> results = jdbcTemplate.query(
+                SEARCH_PAGE.formatted(MATCHING_TASKS, projectFilter), parameters, this::mapResult);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) " + MATCHING_TASKS + projectFilter, parameters, Long.class);
+
+        return new PageImpl<>(results, pageable, total != null ? total : 0);
+    }
+
+    private TaskSearchResult mapResult(ResultSet rs, int rowNum) throws SQLException {
+        return new TaskSearchResult(
+                new TaskResponse(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("title"),
+                        rs.getString("description"),
+                        TaskStatus.valueOf(rs.getString("status")),
+                        TaskPriority.valueOf(rs.getString("priority")),
+                        rs.getObject("project_id", UUID.class),
+                        rs.getObject("assigned_user_id", UUID.class),
+                        rs.getObject("created_by_id", UUID.class),
+                        toLocalDateTime(rs.getTimestamp("created_at")),
+                        toLocalDateTime(rs.getTimestamp("updated_at"))
+                ),
+                rs.getDouble("score"),
+                toHtml(rs.getString("title_highlight")),
+                toHtml(rs.getString("description_highlight"))
+        );
+    }
+
+    private String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(HIGHLIGHT_START_SENTINEL, properties.getHighlightStart())
+                .replace(HIGHLIGHT_STOP_SENTINEL, properties.getHighlightStop());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,17 +1,33 @@
 package com.projectmanagement.task;
 
+import com.projectmanagement.task.dto.BulkCreateTaskRequest;
+import com.projectmanagement.task.dto.BulkTaskResponse;
+import com.projectmanagement.task.dto.BulkUpdateTaskRequest;
+import com.projectmanagement.task.dto.BulkUpdateTaskResponse;
 import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskFilterRequest;
 import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import com.projectmanagement.task.enums.TaskFileFormat;
 import com.projectmanagement.validation.AllowSortFields;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.UUID;
 
@@ -22,17 +38,88 @@ import java.util.UUID;
 public class ProjectTaskController {
 
     private final TaskService taskService;
+    private final TaskBatchProperties batchProperties;
 
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getProjectTasks(
             @PathVariable UUID projectId,
+            @ModelAttribute TaskFilterRequest filter,
             Authentication authentication,
             @AllowSortFields({"id", "title", "status", "priority", "createdAt", "updatedAt", "assignedUserId", "createdById"}) Pageable pageable) {
 
-        Page<TaskResponse> tasks = taskService.getProjectTasks(projectId, authentication, pageable);
+        Page<TaskResponse> tasks = taskService.getProjectTasks(projectId, filter, authentication, pageable);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<TaskSliceResponse> scrollProjectTasks(
+            @PathVariable UUID projectId,
+            @ModelAttribute TaskFilterRequest filter,
+            @RequestParam(required = false) String cursor,
+            Authentication authentication,
+            @AllowSortFields({"id", "title", "status", "priority", "createdAt", "updatedAt", "createdById"}) Pageable pageable) {
+
+        TaskSliceResponse tasks = taskService.scrollProjectTasks(projectId, filter, cursor, pageable, authentication);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<TaskSummaryResponse> getTaskSummary(
+            @PathVariable UUID projectId,
+            Authentication authentication) {
+
+        TaskSummaryResponse summary = taskService.getTaskSummary(projectId, authentication);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToTaskEvents(
+            @PathVariable UUID projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            Authentication authentication) {
+
+        return taskService.subscribeToTaskEvents(projectId, lastEventId, authentication);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            Authentication authentication,
+            NativeWebRequest webRequest) {
+
+        StreamingResponseBody body = taskService.exportTasks(projectId, format, gzip, authentication);
+        extendTransferTimeout(webRequest);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks-" + projectId + "." + format.getFileExtension())
+                .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
+    }
+
+    @PostMapping(value = "/import", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            InputStream body,
+            Authentication authentication,
+            NativeWebRequest webRequest) {
+
+        StreamingResponseBody progress = taskService.importTasks(projectId, format, body, authentication);
+        extendTransferTimeout(webRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(progress);
+    }
+
     @PostMapping
     public ResponseEntity<Void> createTask(
             @PathVariable UUID projectId,
@@ -44,4 +131,31 @@ public class ProjectTaskController {
 
         return ResponseEntity.created(location).build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> createTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkCreateTaskRequest bulkCreateTaskRequest,
+            Authentication authentication) {
+
+        BulkTaskResponse response = taskService.createTasks(bulkCreateTaskRequest, projectId, authentication);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkUpdateTaskResponse> updateTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkUpdateTaskRequest bulkUpdateTaskRequest,
+            Authentication authentication) {
+
+        BulkUpdateTaskResponse response = taskService.updateTasks(bulkUpdateTaskRequest, projectId, authentication);
+        return ResponseEntity.ok(response);
+    }
+
+    // File transfers outlive the default async timeout; other async requests keep it
+    private void extendTransferTimeout(NativeWebRequest webRequest) {
+        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(batchProperties.getTransferTimeoutMillis());
+        }
+    }
+}
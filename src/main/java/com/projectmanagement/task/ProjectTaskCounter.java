@@ -0,0 +1,38 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_task_counters")
+@IdClass(ProjectTaskCounterId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"projectId", "status", "priority"})
+public class ProjectTaskCounter {
+
+    @Id
+    @Column(nullable = false)
+    private UUID projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    @Column(nullable = false)
+    private long taskCount;
+}
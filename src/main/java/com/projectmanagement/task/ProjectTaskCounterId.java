@@ -0,0 +1,19 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTaskCounterId implements Serializable {
+    private UUID projectId;
+    private TaskStatus status;
+    private TaskPriority priority;
+}
@@ -0,0 +1,65 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskCountView;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounter, ProjectTaskCounterId> {
+
+    List<ProjectTaskCounter> findByProjectId(UUID projectId);
+
+    @Modifying
+    @Query("UPDATE ProjectTaskCounter c SET c.taskCount = c.taskCount + :delta " +
+           "WHERE c.projectId = :projectId AND c.status = :status AND c.priority = :priority")
+    int addToCount(@Param("projectId") UUID projectId,
+                   @Param("status") TaskStatus status,
+                   @Param("priority") TaskPriority priority,
+                   @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE ProjectTaskCounter c SET c.taskCount = :count " +
+           "WHERE c.projectId = :projectId AND c.status = :status AND c.priority = :priority")
+    int setCount(@Param("projectId") UUID projectId,
+                 @Param("status") TaskStatus status,
+                 @Param("priority") TaskPriority priority,
+                 @Param("count") long count);
+
+    // Concurrent inserts of the same row wait for the first one to commit and then do nothing (PostgreSQL)
+    @Modifying
+    @Query(value = "INSERT INTO project_task_counters (project_id, status, priority, task_count) " +
+                   "VALUES (:projectId, :status, :priority, 0) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") UUID projectId,
+                       @Param("status") String status,
+                       @Param("priority") String priority);
+
+    // Standard SQL for databases without ON CONFLICT, such as H2 in tests
+    @Modifying
+    @Query(value = "MERGE INTO project_task_counters c " +
+                   "USING (SELECT CAST(:projectId AS UUID) AS project_id, CAST(:status AS VARCHAR(255)) AS status, " +
+                   "CAST(:priority AS VARCHAR(255)) AS priority) s " +
+                   "ON c.project_id = s.project_id AND c.status = s.status AND c.priority = s.priority " +
+                   "WHEN NOT MATCHED THEN INSERT (project_id, status, priority, task_count) " +
+                   "VALUES (s.project_id, s.status, s.priority, 0)",
+           nativeQuery = true)
+    int mergeIfAbsent(@Param("projectId") UUID projectId,
+                      @Param("status") String status,
+                      @Param("priority") String priority);
+
+    @Query("SELECT t.status as status, t.priority as priority, COUNT(t) as taskCount " +
+           "FROM Task t WHERE t.projectId = :projectId GROUP BY t.status, t.priority")
+    List<TaskCountView> countTasksByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT p.id FROM Project p " +
+           "WHERE NOT EXISTS (SELECT 1 FROM ProjectTaskCounter c WHERE c.projectId = p.id)")
+    List<UUID> findProjectIdsWithoutCounters();
+}
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_tasks_project_assigned_user", columnList = "project_id, assigned_user_id"),
+        @Index(name = "idx_tasks_assigned_user_status", columnList = "assigned_user_id, status")
+})
 @Data
 @EqualsAndHashCode(of = "id")
 public class Task {
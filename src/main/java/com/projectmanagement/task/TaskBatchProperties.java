@@ -0,0 +1,31 @@
+package com.projectmanagement.task;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "task.batch")
+@Getter
+@Setter
+public class TaskBatchProperties {
+
+    private int flushSize = 100;
+
+    private int importChunkSize = 1000;
+
+    private int importMaxRecordLength = 16384;
+
+    private long transferTimeoutMillis = 600000;
+
+    @Override
+    public String toString() {
+        return "TaskBatchProperties{" +
+                "flushSize=" + flushSize +
+                ", importChunkSize=" + importChunkSize +
+                ", importMaxRecordLength=" + importMaxRecordLength +
+                ", transferTimeoutMillis=" + transferTimeoutMillis +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.enums.TaskChangeType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBatchWriter {
+
+    private final TaskRepository taskRepository;
+    private final TaskCounterService taskCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskBatchProperties batchProperties;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public List<Task> insert(UUID projectId, List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        for (int index = 0; index < tasks.size(); index++) {
+            // The UUID generator assigns the id on persist, so inserts stay batchable until the flush
+            taskRepository.save(tasks.get(index));
+
+            // Clearing after the last batch too keeps a long-lived persistence context (chunked imports) flat
+            if ((index + 1) % batchProperties.getFlushSize() == 0 || index == tasks.size() - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        taskCounterService.tasksCreated(projectId, tasks);
+        eventPublisher.publishEvent(TaskChangedEvent.bulk(projectId, TaskChangeType.BULK_CREATED,
+                tasks.stream().map(Task::getId).toList()));
+
+        log.debug("Inserted {} tasks for project: {}", tasks.size(), projectId);
+        return tasks;
+    }
+}
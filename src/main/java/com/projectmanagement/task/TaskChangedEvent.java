@@ -0,0 +1,24 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.enums.TaskChangeType;
+
+import java.util.List;
+import java.util.UUID;
+
+// Single-task changes carry the task; bulk changes carry the affected ids, or null when any task of the
+// project may have changed (filter-based updates) and listeners should reload the project's tasks
+public record TaskChangedEvent(UUID projectId, TaskChangeType type, TaskResponse task, List<UUID> taskIds) {
+
+    public static TaskChangedEvent of(TaskChangeType type, TaskResponse task) {
+        return new TaskChangedEvent(task.projectId(), type, task, List.of(task.id()));
+    }
+
+    public static TaskChangedEvent bulk(UUID projectId, TaskChangeType type, List<UUID> taskIds) {
+        return new TaskChangedEvent(projectId, type, null, taskIds);
+    }
+
+    public static TaskChangedEvent projectWide(UUID projectId, TaskChangeType type) {
+        return new TaskChangedEvent(projectId, type, null, null);
+    }
+}
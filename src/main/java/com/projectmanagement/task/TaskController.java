@@ -2,9 +2,14 @@ package com.projectmanagement.task;
 
 import com.projectmanagement.task.dto.AssignTaskRequest;
 import com.projectmanagement.task.dto.TaskDetailResponse;
+import com.projectmanagement.task.dto.TaskSearchResult;
 import com.projectmanagement.task.dto.UpdateTaskRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
@@ -21,6 +26,17 @@ public class TaskController {
 
     private final TaskService taskService;
 
+    @GetMapping("/search")
+    public ResponseEntity<Page<TaskSearchResult>> searchTasks(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(required = false) UUID projectId,
+            Authentication authentication,
+            Pageable pageable) {
+
+        Page<TaskSearchResult> results = taskService.searchTasks(q, projectId, pageable, authentication);
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TaskDetailResponse> getTaskDetails(
             @PathVariable UUID id,
@@ -0,0 +1,199 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.config.CacheNames;
+import com.projectmanagement.task.dto.TaskCountView;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCounterService {
+
+    private static final Comparator<ProjectTaskCounterId> COUNTER_LOCK_ORDER = Comparator
+            .comparing(ProjectTaskCounterId::getStatus)
+            .thenComparing(ProjectTaskCounterId::getPriority);
+
+    private final ProjectTaskCounterRepository counterRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private boolean onConflictSupported;
+
+    @PostConstruct
+    void detectInsertIfAbsentSupport() {
+        onConflictSupported = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public void initializeProject(UUID projectId) {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                entityManager.persist(new ProjectTaskCounter(projectId, status, priority, 0));
+            }
+        }
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public void taskCreated(UUID projectId, TaskStatus status, TaskPriority priority) {
+        adjust(projectId, status, priority, 1);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public void taskChanged(UUID projectId, TaskStatus oldStatus, TaskPriority oldPriority,
+                            TaskStatus newStatus, TaskPriority newPriority) {
+        if (oldStatus == newStatus && oldPriority == newPriority) {
+            return;
+        }
+
+        Map<ProjectTaskCounterId, Long> deltas = new TreeMap<>(COUNTER_LOCK_ORDER);
+        deltas.put(new ProjectTaskCounterId(projectId, oldStatus, oldPriority), -1L);
+        deltas.put(new ProjectTaskCounterId(projectId, newStatus, newPriority), 1L);
+        applyDeltas(projectId, deltas);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public void tasksCreated(UUID projectId, List<Task> tasks) {
+        Map<ProjectTaskCounterId, Long> deltas = new TreeMap<>(COUNTER_LOCK_ORDER);
+        for (Task task : tasks) {
+            deltas.merge(new ProjectTaskCounterId(projectId, task.getStatus(), task.getPriority()), 1L, Long::sum);
+        }
+        applyDeltas(projectId, deltas);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public void recount(UUID projectId) {
+        // Rows are created if absent before anything is locked, so two first writers recounting the same
+        // project cannot both insert them. Taking every counter row next, in the order writers take them,
+        // makes a concurrent increment either finish before the COUNT sees its task or wait until the
+        // overwritten counts are committed
+        insertMissingCounters(projectId);
+        lockCounters(projectId);
+
+        Map<ProjectTaskCounterId, Long> counts = new HashMap<>();
+        for (TaskCountView count : counterRepository.countTasksByProjectId(projectId)) {
+            counts.put(new ProjectTaskCounterId(projectId, count.getStatus(), count.getPriority()), count.getTaskCount());
+        }
+
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                long count = counts.getOrDefault(new ProjectTaskCounterId(projectId, status, priority), 0L);
+                counterRepository.setCount(projectId, status, priority, count);
+            }
+        }
+        log.debug("Recounted task counters for project: {}", projectId);
+    }
+
+    @Cacheable(cacheNames = CacheNames.TASK_SUMMARIES, key = "#projectId")
+    public TaskSummaryResponse getSummary(UUID projectId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        for (ProjectTaskCounter counter : counterRepository.findByProjectId(projectId)) {
+            byStatus.merge(counter.getStatus(), counter.getTaskCount(), Long::sum);
+            byPriority.merge(counter.getPriority(), counter.getTaskCount(), Long::sum);
+            total += counter.getTaskCount();
+        }
+
+        return new TaskSummaryResponse(projectId, total, byStatus, byPriority);
+    }
+
+    // Each project is recounted in its own transaction, so startup holds the locks of one project at a time
+    // and a project that fails to recount is retried by its next write instead of rolling back the others
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingCounters() {
+        List<UUID> projectIds = counterRepository.findProjectIdsWithoutCounters();
+
+        int initialized = 0;
+        for (UUID projectId : projectIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> recount(projectId));
+                initialized++;
+            } catch (RuntimeException e) {
+                log.warn("Could not initialize task counters for project: {}", projectId, e);
+            }
+        }
+
+        if (!projectIds.isEmpty()) {
+            log.info("Initialized task counters for {} of {} existing projects", initialized, projectIds.size());
+        }
+    }
+
+    // Counter rows are always locked in (status, priority) order, the same order recount uses, so two
+    // writers moving tasks in opposite directions cannot each hold the row the other one waits for
+    private void applyDeltas(UUID projectId, Map<ProjectTaskCounterId, Long> deltas) {
+        for (Map.Entry<ProjectTaskCounterId, Long> delta : deltas.entrySet()) {
+            if (!adjust(projectId, delta.getKey().getStatus(), delta.getKey().getPriority(), delta.getValue())) {
+                return;
+            }
+        }
+    }
+
+    private void insertMissingCounters(UUID projectId) {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                if (onConflictSupported) {
+                    counterRepository.insertIfAbsent(projectId, status.name(), priority.name());
+                } else {
+                    counterRepository.mergeIfAbsent(projectId, status.name(), priority.name());
+                }
+            }
+        }
+    }
+
+    // A zero delta locks the row like any other increment
+    private void lockCounters(UUID projectId) {
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                counterRepository.addToCount(projectId, status, priority, 0);
+            }
+        }
+    }
+
+    // Returns false when the project had no counter rows and was recounted from its tasks instead,
+    // in which case the pending change is already included and no further deltas must be applied
+    private boolean adjust(UUID projectId, TaskStatus status, TaskPriority priority, long delta) {
+        if (counterRepository.addToCount(projectId, status, priority, delta) > 0) {
+            return true;
+        }
+
+        log.warn("Missing task counters for project: {}, recounting", projectId);
+        recount(projectId);
+        return false;
+    }
+}
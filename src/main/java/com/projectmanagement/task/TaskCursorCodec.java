@@ -0,0 +1,74 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.exception.InvalidCursorException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.beans.PropertyDescriptor;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class TaskCursorCodec {
+
+    private static final String SORT_FIELD = "s";
+    private static final String KEYS_FIELD = "k";
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(KeysetScrollPosition position, Sort sort) {
+        Map<String, Object> cursor = Map.of(SORT_FIELD, sort.toString(), KEYS_FIELD, position.getKeys());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to encode task cursor", e);
+        }
+    }
+
+    public KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(Base64.getUrlDecoder().decode(cursor));
+        } catch (Exception e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        if (!sort.toString().equals(node.path(SORT_FIELD).asText())) {
+            throw new InvalidCursorException("Cursor was issued for a different sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.path(KEYS_FIELD).fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            PropertyDescriptor property = BeanUtils.getPropertyDescriptor(Task.class, field.getKey());
+            if (property == null || field.getValue().isNull()) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            try {
+                keys.put(field.getKey(), objectMapper.treeToValue(field.getValue(), property.getPropertyType()));
+            } catch (Exception e) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+}
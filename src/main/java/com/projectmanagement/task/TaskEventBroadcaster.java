@@ -0,0 +1,319 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.project.ProjectMembershipChangedEvent;
+import com.projectmanagement.task.enums.TaskChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventBroadcaster {
+
+    private static final long NO_START_ID = -1;
+
+    private final TaskEventProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final Map<UUID, ProjectChannel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-events-", 0).factory());
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public SseEmitter subscribe(UUID projectId, UUID userId, Long lastSeenEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeoutMs());
+        Subscriber subscriber = new Subscriber(projectId, userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        ProjectChannel channel;
+        do {
+            channel = channels.computeIfAbsent(projectId,
+                    id -> new ProjectChannel(Math.max(lastEventId.get(), System.currentTimeMillis() * 1000)));
+        } while (!attach(channel, subscriber, lastSeenEventId));
+
+        log.debug("Subscribed to task events of project: {} ({} subscribers)", projectId, channel.subscribers.size());
+        return emitter;
+    }
+
+    // False when sendHeartbeats dropped the idle channel before it was locked; a subscriber added to it
+    // would never get an event, so the caller retries with the channel now in the map
+    private boolean attach(ProjectChannel channel, Subscriber subscriber, Long lastSeenEventId) {
+        synchronized (channel) {
+            if (channels.get(subscriber.projectId) != channel) {
+                return false;
+            }
+
+            channel.subscribers.add(subscriber);
+            if (lastSeenEventId != null) {
+                // Queue the backlog under the channel lock so a concurrent dispatch cannot overtake it
+                for (TaskEventEnvelope envelope : backlog(channel, subscriber.projectId, lastSeenEventId)) {
+                    if (!subscriber.enqueue(envelope)) {
+                        break;
+                    }
+                }
+            }
+            // Commits the response right away instead of at the first event, so the client sees the stream open
+            subscriber.enqueueHeartbeat();
+            return true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskEventEnvelope envelope = new TaskEventEnvelope(nextEventId(), instanceId, event);
+        dispatch(envelope);
+        eventPublisher.publishEvent(envelope);
+    }
+
+    public void dispatchRemote(TaskEventEnvelope envelope) {
+        lastEventId.accumulateAndGet(envelope.id(), Math::max);
+        dispatch(envelope);
+        eventPublisher.publishEvent(envelope);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(ProjectMembershipChangedEvent event) {
+        closeSubscriptions(event.projectId(), event.userId());
+    }
+
+    // Membership is only checked on subscribe, so any change to it ends the user's streams of the project;
+    // clients reconnect with Last-Event-ID and are let back in only while they are still members
+    public void closeSubscriptions(UUID projectId, UUID userId) {
+        ProjectChannel channel = channels.get(projectId);
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            channel.subscribers.removeIf(subscriber -> {
+                if (!subscriber.userId.equals(userId)) {
+                    return false;
+                }
+                subscriber.complete();
+                return true;
+            });
+        }
+        log.debug("Closed task event subscriptions of user {} in project {}", userId, projectId);
+    }
+
+    @Scheduled(fixedDelayString = "${task.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        long staleBefore = System.currentTimeMillis() - properties.getReplayRetentionMs();
+
+        channels.forEach((projectId, channel) -> {
+            synchronized (channel) {
+                channel.subscribers.removeIf(subscriber -> !subscriber.enqueueHeartbeat());
+                if (channel.subscribers.isEmpty() && channel.lastActivity < staleBefore) {
+                    channels.remove(projectId, channel);
+                }
+            }
+        });
+    }
+
+    // Replays what a client that stayed connected to this instance would have received after its last event.
+    // Ids come from each instance's clock and are not comparable across instances, so unless the last event
+    // is found in the buffer the client is told to reload instead of resuming from a guess.
+    private List<TaskEventEnvelope> backlog(ProjectChannel channel, UUID projectId, long lastSeenEventId) {
+        List<TaskEventEnvelope> recentEvents = channel.recentEvents;
+        for (int position = recentEvents.size() - 1; position >= 0; position--) {
+            if (recentEvents.get(position).id() == lastSeenEventId) {
+                return List.copyOf(recentEvents.subList(position + 1, recentEvents.size()));
+            }
+        }
+        if (lastSeenEventId == channel.startId) {
+            return List.copyOf(recentEvents);
+        }
+
+        log.debug("Resetting task event subscriber of project {}: event {} is not buffered", projectId, lastSeenEventId);
+        // The reset carries an id this channel can resume from, so a reconnect right after the reload does not reset again
+        long resetId = recentEvents.isEmpty() ? channel.startId : recentEvents.getLast().id();
+        return List.of(new TaskEventEnvelope(resetId, instanceId,
+                TaskChangedEvent.projectWide(projectId, TaskChangeType.RESET)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Only the replay buffer and the subscriber queues are touched here; the sockets are written by
+    // each subscriber's sender, so a slow client never holds up the committing request or the channel
+    private void dispatch(TaskEventEnvelope envelope) {
+        ProjectChannel channel = channels.get(envelope.event().projectId());
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            channel.recentEvents.add(envelope);
+            while (channel.recentEvents.size() > properties.getReplayBufferSize()) {
+                channel.recentEvents.removeFirst();
+                channel.startId = NO_START_ID;
+            }
+            channel.lastActivity = System.currentTimeMillis();
+            channel.subscribers.removeIf(subscriber -> !subscriber.enqueue(envelope));
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.close();
+        ProjectChannel channel = channels.get(subscriber.projectId);
+        if (channel != null) {
+            synchronized (channel) {
+                channel.subscribers.remove(subscriber);
+                channel.lastActivity = System.currentTimeMillis();
+            }
+        }
+    }
+
+    // Ids are time-based so they stay roughly ordered across instances and survive restarts
+    private long nextEventId() {
+        long now = System.currentTimeMillis() * 1000;
+        return lastEventId.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    // Events are buffered in arrival order, which is the order subscribers received them; ids relayed from
+    // other instances may arrive after higher local ones, so resuming goes by position rather than by id
+    private static final class ProjectChannel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final List<TaskEventEnvelope> recentEvents = new ArrayList<>();
+        // Resumes from the first buffered event while the buffer still starts where the channel did
+        private long startId;
+        private long lastActivity = System.currentTimeMillis();
+
+        ProjectChannel(long startId) {
+            this.startId = startId;
+        }
+    }
+
+    // Events wait in a bounded queue drained by at most one sender at a time, which keeps them in order.
+    // A client that falls a full queue behind is dropped and catches up by reconnecting with Last-Event-ID.
+    private final class Subscriber {
+
+        private final UUID projectId;
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Deque<TaskEventEnvelope> outbox = new ArrayDeque<>();
+        private boolean heartbeatPending;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(UUID projectId, UUID userId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        boolean enqueue(TaskEventEnvelope envelope) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (outbox.size() >= properties.getSubscriberQueueSize()) {
+                    log.debug("Dropping task event subscriber of project {}: {} events behind", projectId, outbox.size());
+                    complete();
+                    return false;
+                }
+                outbox.addLast(envelope);
+                startDraining();
+                return true;
+            }
+        }
+
+        boolean enqueueHeartbeat() {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                heartbeatPending = true;
+                startDraining();
+                return true;
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                outbox.clear();
+            }
+        }
+
+        // Completing on a sender keeps the caller, which may hold the channel lock, off the socket
+        void complete() {
+            close();
+            senders.execute(emitter::complete);
+        }
+
+        private void startDraining() {
+            if (!draining) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                TaskEventEnvelope envelope;
+                boolean heartbeat = false;
+                synchronized (this) {
+                    envelope = closed ? null : outbox.pollFirst();
+                    if (envelope == null && !closed && heartbeatPending) {
+                        heartbeat = true;
+                    }
+                    heartbeatPending = false;
+                    if (envelope == null && !heartbeat) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    if (envelope != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(envelope.id()))
+                                .name(envelope.event().type().name())
+                                .data(envelope.event(), MediaType.APPLICATION_JSON));
+                    } else {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping task event subscriber: {}", e.getMessage());
+                    synchronized (this) {
+                        draining = false;
+                    }
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
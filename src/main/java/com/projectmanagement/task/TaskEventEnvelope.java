@@ -0,0 +1,4 @@
+package com.projectmanagement.task;
+
+public record TaskEventEnvelope(long id, String origin, TaskChangedEvent event) {
+}
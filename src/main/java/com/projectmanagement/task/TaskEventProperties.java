@@ -0,0 +1,32 @@
+package com.projectmanagement.task;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "task.events")
+@Getter
+@Setter
+public class TaskEventProperties {
+
+    private String channel = "task:events";
+    private long emitterTimeoutMs = 1800000;
+    private long heartbeatIntervalMs = 15000;
+    private int replayBufferSize = 256;
+    private long replayRetentionMs = 300000;
+    private int subscriberQueueSize = 256; // events a subscriber may fall behind before it is dropped
+
+    @Override
+    public String toString() {
+        return "TaskEventProperties{" +
+                "channel='" + channel + '\'' +
+                ", emitterTimeoutMs=" + emitterTimeoutMs +
+                ", heartbeatIntervalMs=" + heartbeatIntervalMs +
+                ", replayBufferSize=" + replayBufferSize +
+                ", replayRetentionMs=" + replayRetentionMs +
+                ", subscriberQueueSize=" + subscriberQueueSize +
+                '}';
+    }
+}
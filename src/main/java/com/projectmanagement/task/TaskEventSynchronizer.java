@@ -0,0 +1,81 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.project.ProjectMembershipCacheProperties;
+import com.projectmanagement.project.ProjectMembershipChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+@ConditionalOnProperty(name = "redis.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventSynchronizer implements MessageListener {
+
+    private final TaskEventProperties properties;
+    private final ProjectMembershipCacheProperties membershipCacheProperties;
+    private final TaskEventBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        listenerContainer.addMessageListener(this, new ChannelTopic(membershipCacheProperties.getEventsChannel()));
+    }
+
+    @EventListener
+    public void onTaskEventDispatched(TaskEventEnvelope envelope) {
+        // Relayed envelopes are republished locally too; only this instance's own changes go back out
+        if (!broadcaster.getInstanceId().equals(envelope.origin())) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to publish task event {}: {}", envelope.id(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (membershipCacheProperties.getEventsChannel().equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            onMembershipMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        try {
+            TaskEventEnvelope envelope = objectMapper.readValue(message.getBody(), TaskEventEnvelope.class);
+            if (!broadcaster.getInstanceId().equals(envelope.origin())) {
+                broadcaster.dispatchRemote(envelope);
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring malformed task event: {}", e.getMessage());
+        }
+    }
+
+    // Membership changes made on another instance end the user's streams held by this one
+    private void onMembershipMessage(String message) {
+        try {
+            ProjectMembershipChangedEvent change = ProjectMembershipChangedEvent.fromMessage(message);
+            broadcaster.closeSubscriptions(change.projectId(), change.userId());
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed membership event: {}", message);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.enums.TaskFileFormat;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,projectId,assignedUserId,createdById,createdAt,updatedAt\n";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TaskBatchProperties batchProperties;
+
+    @Transactional(readOnly = true)
+    public long write(UUID projectId, TaskFileFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipStream != null ? gzipStream : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == TaskFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long rows = 0;
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskResponse task = taskMapper.toResponse(iterator.next());
+                if (format == TaskFileFormat.CSV) {
+                    writeCsvRow(writer, task);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(task));
+                    writer.write('\n');
+                }
+
+                // Streamed entities stay managed until cleared, which would otherwise grow with the project
+                if (++rows % batchProperties.getFlushSize() == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+
+        log.info("Exported {} tasks of project: {} as {}", rows, projectId, format);
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, TaskResponse task) throws IOException {
+        writer.write(csv(task.id()));
+        writer.write(',');
+        writer.write(csv(neutraliseFormula(task.title())));
+        writer.write(',');
+        writer.write(csv(neutraliseFormula(task.description())));
+        writer.write(',');
+        writer.write(csv(task.status()));
+        writer.write(',');
+        writer.write(csv(task.priority()));
+        writer.write(',');
+        writer.write(csv(task.projectId()));
+        writer.write(',');
+        writer.write(csv(task.assignedUserId()));
+        writer.write(',');
+        writer.write(csv(task.createdById()));
+        writer.write(',');
+        writer.write(csv(task.createdAt()));
+        writer.write(',');
+        writer.write(csv(task.updatedAt()));
+        writer.write('\n');
+    }
+
+    // Spreadsheets evaluate cells starting with these as formulas, so user text is prefixed to stay literal
+    private static String neutraliseFormula(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + text;
+        }
+        return text;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,131 @@
+package com.projectmanagement.task;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads one record at a time so an upload is never held in memory; the record length cap keeps an
+// unterminated quote or a missing newline from turning into an unbounded buffer
+class TaskFileReader implements Closeable {
+
+    private static final int NO_LOOKAHEAD = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private long row;
+    private int lookahead = NO_LOOKAHEAD;
+
+    TaskFileReader(Reader reader, int maxRecordLength) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 16 * 1024);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // 1-based number of the last record returned, counting blank lines and the CSV header
+    long row() {
+        return row;
+    }
+
+    String nextLine() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        row++;
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                append(line, c, line.length());
+            }
+            c = read();
+        }
+        return line.toString();
+    }
+
+    List<String> nextCsvRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        row++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedFileException("Unterminated quoted field in row " + row);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        if (next != ',' && next != '\n' && next != '\r' && next != -1) {
+                            throw new MalformedFileException("Unexpected text after closing quote in row " + row);
+                        }
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                append(field, c, length++);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        lookahead = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                checkLength(length++);
+                fields.add(field.toString());
+                field = new StringBuilder();
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                append(field, c, length++);
+            }
+            c = read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (lookahead != NO_LOOKAHEAD) {
+            int c = lookahead;
+            lookahead = NO_LOOKAHEAD;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void append(StringBuilder target, int c, int length) throws MalformedFileException {
+        checkLength(length);
+        target.append((char) c);
+    }
+
+    // Separators count too, so a line of nothing but commas cannot grow the field list without bound
+    private void checkLength(int length) throws MalformedFileException {
+        if (length >= maxRecordLength) {
+            throw new MalformedFileException("Row " + row + " exceeds " + maxRecordLength + " characters");
+        }
+    }
+
+    static class MalformedFileException extends IOException {
+
+        MalformedFileException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskImportEvent;
+import com.projectmanagement.task.enums.TaskFileFormat;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImporter {
+
+    private static final String UTF8_BOM = "\uFEFF";
+
+    private final TaskBatchWriter taskBatchWriter;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TaskBatchProperties batchProperties;
+
+    // Every chunk commits in its own transaction, so a failure part way through keeps the chunks before it
+    public TaskImportEvent importTasks(UUID projectId, UUID createdById, Set<UUID> memberIds,
+                                       TaskFileFormat format, InputStream in, OutputStream out) throws IOException {
+        ImportRun run = new ImportRun(projectId, createdById, memberIds,
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+
+        TaskImportEvent result;
+        try (TaskFileReader reader = new TaskFileReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), batchProperties.getImportMaxRecordLength())) {
+            if (format == TaskFileFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+            run.flushChunk();
+            result = TaskImportEvent.completed(run.processed, run.imported, run.rejected);
+        } catch (TaskFileReader.MalformedFileException e) {
+            run.flushChunk();
+            result = TaskImportEvent.aborted(e.getMessage(), run.processed, run.imported, run.rejected);
+        }
+
+        run.write(result);
+        run.writer.flush();
+
+        log.info("Imported {} tasks into project: {} from {} ({} rejected)", run.imported, projectId, format, run.rejected);
+        return result;
+    }
+
+    private void readCsv(TaskFileReader reader, ImportRun run) throws IOException {
+        List<String> header = reader.nextCsvRecord();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int index = 0; index < header.size(); index++) {
+            String name = header.get(index).trim();
+            if (index == 0 && name.startsWith(UTF8_BOM)) {
+                name = name.substring(1);
+            }
+            columns.putIfAbsent(name.toLowerCase(Locale.ROOT), index);
+        }
+        if (!columns.containsKey("title")) {
+            throw new TaskFileReader.MalformedFileException("CSV header must contain a title column");
+        }
+
+        List<String> record;
+        while ((record = reader.nextCsvRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            long row = reader.row();
+            CreateTaskRequest request;
+            try {
+                request = new CreateTaskRequest(
+                        column(record, columns, "title"),
+                        column(record, columns, "description"),
+                        parseUuid(column(record, columns, "assigneduserid")),
+                        parseEnum(TaskStatus.class, column(record, columns, "status")),
+                        parseEnum(TaskPriority.class, column(record, columns, "priority"))
+                );
+            } catch (IllegalArgumentException e) {
+                run.reject(row, e.getMessage());
+                continue;
+            }
+            run.accept(row, request);
+        }
+    }
+
+    private void readNdjson(TaskFileReader reader, ImportRun run) throws IOException {
+        String line;
+        while ((line = reader.nextLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            long row = reader.row();
+            CreateTaskRequest request;
+            try {
+                request = objectMapper.readValue(line, CreateTaskRequest.class);
+            } catch (JsonProcessingException e) {
+                run.reject(row, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (request == null) {
+                run.reject(row, "Malformed JSON: expected an object");
+                continue;
+            }
+            run.accept(row, request);
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isBlank() ? null : value;
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid assignedUserId '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " '" + value + "'");
+        }
+    }
+
+    private class ImportRun {
+
+        private final UUID projectId;
+        private final UUID createdById;
+        private final Set<UUID> memberIds;
+        private final Writer writer;
+        private List<Task> chunk = new ArrayList<>();
+        private long chunkFirstRow;
+        private long processed;
+        private long imported;
+        private long rejected;
+
+        ImportRun(UUID projectId, UUID createdById, Set<UUID> memberIds, Writer writer) {
+            this.projectId = projectId;
+            this.createdById = createdById;
+            this.memberIds = memberIds;
+            this.writer = writer;
+        }
+
+        void accept(long row, CreateTaskRequest request) throws IOException {
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+
+            UUID assignedUserId = request.assignedUserId() != null ? request.assignedUserId() : createdById;
+            if (!memberIds.contains(assignedUserId)) {
+                reject(row, String.format("User %s must be a member of the project", assignedUserId));
+                return;
+            }
+
+            processed++;
+            if (chunk.isEmpty()) {
+                chunkFirstRow = row;
+            }
+            chunk.add(taskMapper.toEntity(request, projectId, assignedUserId, createdById));
+
+            if (chunk.size() >= batchProperties.getImportChunkSize()) {
+                flushChunk();
+            }
+        }
+
+        void reject(long row, String error) throws IOException {
+            processed++;
+            rejected++;
+            write(TaskImportEvent.rowRejected(row, error));
+        }
+
+        void flushChunk() throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            try {
+                taskBatchWriter.insert(projectId, chunk);
+                imported += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("Failed to import {} tasks into project {} starting at row {}", chunk.size(), projectId, chunkFirstRow, e);
+                rejected += chunk.size();
+                write(TaskImportEvent.rowRejected(chunkFirstRow,
+                        String.format("%d rows starting at this row could not be saved", chunk.size())));
+            }
+            chunk = new ArrayList<>(batchProperties.getImportChunkSize());
+
+            write(TaskImportEvent.progress(processed, imported, rejected));
+            writer.flush();
+        }
+
+        void write(TaskImportEvent event) throws IOException {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.write('\n');
+        }
+    }
+}
@@ -2,19 +2,53 @@ package com.projectmanagement.task;
 
 import com.projectmanagement.project.dto.ProjectMemberResponse;
 import com.projectmanagement.project.dto.ProjectMemberView;
+import com.projectmanagement.task.dto.CreateTaskRequest;
 import com.projectmanagement.task.dto.TaskDetailResponse;
+import com.projectmanagement.task.dto.TaskDetailView;
 import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import org.mapstruct.Named;
+
+import java.util.UUID;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface TaskMapper {
 
     TaskResponse toResponse(Task task);
 
-    @Mapping(source = "memberView", target = "assignedMember")
-    TaskDetailResponse toTaskDetailResponse(Task task, ProjectMemberView memberView);
+    default Task toEntity(CreateTaskRequest request, UUID projectId, UUID assignedUserId, UUID createdById) {
+        Task task = new Task();
+        task.setTitle(request.title());
+        task.setDescription(request.description());
+        task.setProjectId(projectId);
+        task.setAssignedUserId(assignedUserId);
+        task.setCreatedById(createdById);
+        // Apply defaults for optional fields
+        task.setStatus(request.status() != null ? request.status() : TaskStatus.TODO);
+        task.setPriority(request.priority() != null ? request.priority() : TaskPriority.LOW);
+        return task;
+    }
 
     ProjectMemberResponse toProjectMemberResponse(ProjectMemberView memberView);
+
+    @Mapping(source = ".", target = "assignedMember", qualifiedByName = "assignedMember")
+    TaskDetailResponse toTaskDetailResponse(TaskDetailView view);
+
+    @Named("assignedMember")
+    default ProjectMemberResponse toAssignedMember(TaskDetailView view) {
+        if (view.getAssigneeUserId() == null) {
+            return null;
+        }
+        return new ProjectMemberResponse(
+                view.getAssigneeUserId(),
+                view.getAssigneeUsername(),
+                view.getAssigneeEmail(),
+                view.getAssigneeRole(),
+                view.getAssigneeJoinedAt()
+        );
+    }
 }
\ No newline at end of file
@@ -1,20 +1,115 @@
 package com.projectmanagement.task;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import com.projectmanagement.task.dto.TaskAccessView;
+import com.projectmanagement.task.dto.TaskDetailView;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
     List<Task> findByProjectId(UUID projectId);
 
     Page<Task> findByProjectId(UUID projectId, Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId ORDER BY t.createdAt, t.id")
+    Stream<Task> streamByProjectId(@Param("projectId") UUID projectId);
+
     List<Task> findByAssignedUserId(UUID assignedUserId);
 
-}
\ No newline at end of file
+    @Query("SELECT t.id as id, t.title as title, t.description as description, t.status as status, " +
+           "t.priority as priority, t.projectId as projectId, t.assignedUserId as assignedUserId, " +
+           "t.createdById as createdById, t.createdAt as createdAt, t.updatedAt as updatedAt, " +
+           "CASE WHEN cm.userId IS NULL THEN false ELSE true END as callerMember, " +
+           "u.id as assigneeUserId, u.username as assigneeUsername, u.email as assigneeEmail, " +
+           "am.role as assigneeRole, am.joinedAt as assigneeJoinedAt " +
+           "FROM Task t " +
+           "LEFT JOIN ProjectMember cm ON cm.projectId = t.projectId AND cm.userId = :callerId " +
+           "LEFT JOIN ProjectMember am ON am.projectId = t.projectId AND am.userId = t.assignedUserId " +
+           "LEFT JOIN User u ON u.id = am.userId " +
+           "WHERE t.id = :taskId")
+    Optional<TaskDetailView> findTaskDetail(@Param("taskId") UUID taskId, @Param("callerId") UUID callerId);
+
+    @Query("SELECT t as task, " +
+           "CASE WHEN cm.userId IS NULL THEN false ELSE true END as callerMember, " +
+           "CASE WHEN am.userId IS NULL THEN false ELSE true END as assigneeMember " +
+           "FROM Task t " +
+           "LEFT JOIN ProjectMember cm ON cm.projectId = t.projectId AND cm.userId = :callerId " +
+           "LEFT JOIN ProjectMember am ON am.projectId = t.projectId AND am.userId = :assigneeId " +
+           "WHERE t.id = :taskId")
+    Optional<TaskAccessView> findTaskForUpdate(@Param("taskId") UUID taskId,
+                                               @Param("callerId") UUID callerId,
+                                               @Param("assigneeId") UUID assigneeId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.projectId = :projectId AND t.id IN :taskIds")
+    List<UUID> findIdsInProject(@Param("projectId") UUID projectId, @Param("taskIds") Collection<UUID> taskIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = COALESCE(:status, t.status), " +
+           "t.priority = COALESCE(:priority, t.priority), " +
+           "t.assignedUserId = CASE WHEN :unassign = true THEN NULL ELSE COALESCE(:assignedUserId, t.assignedUserId) END, " +
+           "t.updatedAt = :updatedAt " +
+           "WHERE t.projectId = :projectId AND t.id IN :taskIds")
+    int bulkUpdateByIds(@Param("projectId") UUID projectId,
+                        @Param("taskIds") Collection<UUID> taskIds,
+                        @Param("status") TaskStatus status,
+                        @Param("priority") TaskPriority priority,
+                        @Param("assignedUserId") UUID assignedUserId,
+                        @Param("unassign") boolean unassign,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = COALESCE(:status, t.status), " +
+           "t.priority = COALESCE(:priority, t.priority), " +
+           "t.assignedUserId = CASE WHEN :unassign = true THEN NULL ELSE COALESCE(:assignedUserId, t.assignedUserId) END, " +
+           "t.updatedAt = :updatedAt " +
+           "WHERE t.projectId = :projectId " +
+           "AND (:filterStatus IS NULL OR t.status = :filterStatus) " +
+           "AND (:filterPriority IS NULL OR t.priority = :filterPriority) " +
+           "AND (:filterAssignedUserId IS NULL OR t.assignedUserId = :filterAssignedUserId)")
+    int bulkUpdateByFilter(@Param("projectId") UUID projectId,
+                           @Param("filterStatus") TaskStatus filterStatus,
+                           @Param("filterPriority") TaskPriority filterPriority,
+                           @Param("filterAssignedUserId") UUID filterAssignedUserId,
+                           @Param("status") TaskStatus status,
+                           @Param("priority") TaskPriority priority,
+                           @Param("assignedUserId") UUID assignedUserId,
+                           @Param("unassign") boolean unassign,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(value = "SELECT t FROM Task t " +
+                   "JOIN ProjectMember pm ON pm.projectId = t.projectId AND pm.userId = :callerId " +
+                   "WHERE (:projectId IS NULL OR t.projectId = :projectId) " +
+                   "AND (LOWER(t.title) LIKE :pattern ESCAPE '!' OR LOWER(t.description) LIKE :pattern ESCAPE '!') " +
+                   "ORDER BY CASE WHEN LOWER(t.title) LIKE :pattern ESCAPE '!' THEN 0 ELSE 1 END, t.updatedAt DESC, t.id",
+           countQuery = "SELECT COUNT(t) FROM Task t " +
+                        "JOIN ProjectMember pm ON pm.projectId = t.projectId AND pm.userId = :callerId " +
+                        "WHERE (:projectId IS NULL OR t.projectId = :projectId) " +
+                        "AND (LOWER(t.title) LIKE :pattern ESCAPE '!' OR LOWER(t.description) LIKE :pattern ESCAPE '!')")
+    Page<Task> searchByText(@Param("callerId") UUID callerId,
+                            @Param("projectId") UUID projectId,
+                            @Param("pattern") String pattern,
+                            Pageable pageable);
+}
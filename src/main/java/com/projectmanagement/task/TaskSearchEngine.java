@@ -0,0 +1,16 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskSearchResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface TaskSearchEngine {
+
+    /**
+     * Ranks tasks matching {@code query} in the projects {@code callerId} belongs to,
+     * optionally narrowed to a single project.
+     */
+    Page<TaskSearchResult> search(String query, UUID callerId, UUID projectId, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.projectmanagement.task;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "task.search")
+@Getter
+@Setter
+public class TaskSearchProperties {
+
+    private String engine = "like"; // "postgres" for tsvector/GIN search, "like" for portable substring search
+    private String highlightStart = "<mark>";
+    private String highlightStop = "</mark>";
+    private int snippetLength = 200;
+
+    @Override
+    public String toString() {
+        return "TaskSearchProperties{" +
+                "engine='" + engine + '\'' +
+                ", highlightStart='" + highlightStart + '\'' +
+                ", highlightStop='" + highlightStop + '\'' +
+                ", snippetLength=" + snippetLength +
+                '}';
+    }
+}
@@ -4,22 +4,50 @@ import com.projectmanagement.auth.CustomUserDetails;
 import com.projectmanagement.exception.ProjectMembershipException;
 import com.projectmanagement.exception.TaskNotFoundException;
 import com.projectmanagement.project.ProjectMemberRepository;
+import com.projectmanagement.project.ProjectMembershipCache;
 import com.projectmanagement.task.dto.AssignTaskRequest;
+import com.projectmanagement.task.dto.BulkCreateTaskRequest;
+import com.projectmanagement.task.dto.BulkTaskResponse;
+import com.projectmanagement.task.dto.BulkTaskFilter;
+import com.projectmanagement.task.dto.BulkTaskResult;
+import com.projectmanagement.task.dto.BulkUpdateTaskRequest;
+import com.projectmanagement.task.dto.BulkUpdateTaskResponse;
+import com.projectmanagement.task.dto.TaskAccessView;
 import com.projectmanagement.task.dto.CreateTaskRequest;
 import com.projectmanagement.task.dto.TaskDetailResponse;
+import com.projectmanagement.task.dto.TaskDetailView;
+import com.projectmanagement.task.dto.TaskFilterRequest;
 import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.dto.TaskSearchResult;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
 import com.projectmanagement.task.dto.UpdateTaskRequest;
+import com.projectmanagement.task.enums.TaskChangeType;
+import com.projectmanagement.task.enums.TaskFileFormat;
 import com.projectmanagement.task.enums.TaskPriority;
 import com.projectmanagement.task.enums.TaskStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +55,17 @@ import java.util.UUID;
 public class TaskService {
 
     private final TaskRepository taskRepository;
-    private final ProjectMemberRepository projectMemberRepository;
     private final TaskMapper taskMapper;
+    private final TaskCursorCodec cursorCodec;
+    private final TaskSearchEngine taskSearchEngine;
+    private final TaskCounterService taskCounterService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskBatchWriter taskBatchWriter;
+    private final TaskExportWriter taskExportWriter;
+    private final TaskImporter taskImporter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectMembershipCache membershipCache;
+    private final ProjectMemberRepository projectMemberRepository;
 
     @Transactional
     public Task createTask(CreateTaskRequest request, UUID projectId, Authentication authentication) {
@@ -43,33 +80,152 @@ public class TaskService {
             validateUserIsProjectMember(assignedUserId, projectId);
         }
 
-        // Create task directly with all values
-        Task task = new Task();
-        task.setTitle(request.title());
-        task.setDescription(request.description());
-        task.setProjectId(projectId);
-        task.setAssignedUserId(assignedUserId);
-        task.setCreatedById(currentUserId);
-        // Apply defaults for optional fields
-        task.setStatus(request.status() != null ? request.status() : TaskStatus.TODO);
-        task.setPriority(request.priority() != null ? request.priority() : TaskPriority.LOW);
-
-        Task savedTask = taskRepository.save(task);
+        Task task = taskMapper.toEntity(request, projectId, assignedUserId, currentUserId);
+
+        Task savedTask = taskRepository.saveAndFlush(task);
+        taskCounterService.taskCreated(projectId, savedTask.getStatus(), savedTask.getPriority());
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, taskMapper.toResponse(savedTask)));
         log.info("Task created successfully with ID: {} for project: {}", savedTask.getId(), savedTask.getProjectId());
 
         return savedTask;
     }
 
-    public Page<TaskResponse> getProjectTasks(UUID projectId, Authentication authentication, Pageable pageable) {
+    @Transactional
+    public BulkTaskResponse createTasks(BulkCreateTaskRequest request, UUID projectId, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        List<CreateTaskRequest> items = request.tasks();
+        log.debug("Creating {} tasks for project: {} by user: {}", items.size(), projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        Set<UUID> assignees = items.stream()
+                .map(CreateTaskRequest::assignedUserId)
+                .filter(Objects::nonNull)
+                .filter(userId -> !userId.equals(currentUserId))
+                .collect(Collectors.toSet());
+        Set<UUID> memberAssignees = assignees.isEmpty()
+                ? Set.of()
+                : projectMemberRepository.findMemberUserIds(projectId, assignees);
+
+        BulkTaskResult[] results = new BulkTaskResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(items.size());
+        List<Task> tasks = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            CreateTaskRequest item = items.get(index);
+            UUID assignedUserId = item.assignedUserId() != null ? item.assignedUserId() : currentUserId;
+
+            if (!assignedUserId.equals(currentUserId) && !memberAssignees.contains(assignedUserId)) {
+                results[index] = BulkTaskResult.failed(index, String.format("User %s must be a member of the project", assignedUserId));
+                continue;
+            }
+
+            acceptedIndexes.add(index);
+            tasks.add(taskMapper.toEntity(item, projectId, assignedUserId, currentUserId));
+        }
+
+        taskBatchWriter.insert(projectId, tasks);
+        for (int i = 0; i < tasks.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkTaskResult.succeeded(index, tasks.get(i).getId());
+        }
+
+        BulkTaskResponse response = BulkTaskResponse.of(List.of(results));
+        log.info("Bulk created {} tasks for project: {} ({} rejected)", response.succeeded(), projectId, response.failed());
+
+        return response;
+    }
+
+    public Page<TaskResponse> getProjectTasks(UUID projectId, TaskFilterRequest filter, Authentication authentication, Pageable pageable) {
         UUID currentUserId = CustomUserDetails.getUserId(authentication);
         log.debug("Fetching tasks for project: {} by user: {}", projectId, authentication.getName());
 
         validateUserIsProjectMember(currentUserId, projectId);
 
-        Page<Task> tasks = taskRepository.findByProjectId(projectId, pageable);
+        Page<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(projectId, filter), pageable);
         return tasks.map(taskMapper::toResponse);
     }
 
+    public TaskSliceResponse scrollProjectTasks(UUID projectId, TaskFilterRequest filter, String cursor, Pageable pageable, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Scrolling tasks for project: {} by user: {}", projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        return sliceProjectTasks(projectId, filter, cursor, pageable.getPageSize(), pageable.getSort());
+    }
+
+    public TaskSliceResponse sliceProjectTasks(UUID projectId, TaskFilterRequest filter, String cursor, int size, Sort sort) {
+        // Keyset scrolling appends the id to the sort, so (sort key, id) always identifies a row
+        KeysetScrollPosition position = cursorCodec.decode(cursor, sort);
+
+        Window<Task> tasks = taskRepository.findBy(TaskSpecifications.matching(projectId, filter), query -> query
+                .sortBy(sort)
+                .limit(size)
+                .scroll(position));
+        String nextCursor = tasks.hasNext()
+                ? cursorCodec.encode((KeysetScrollPosition) tasks.positionAt(tasks.size() - 1), sort)
+                : null;
+
+        return new TaskSliceResponse(
+                tasks.map(taskMapper::toResponse).getContent(),
+                tasks.size(),
+                tasks.hasNext(),
+                nextCursor
+        );
+    }
+
+    public Page<TaskSearchResult> searchTasks(String query, UUID projectId, Pageable pageable, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Searching tasks for '{}' in project: {} by user: {}", query, projectId, authentication.getName());
+
+        if (projectId != null) {
+            validateUserIsProjectMember(currentUserId, projectId);
+        }
+
+        return taskSearchEngine.search(query, currentUserId, projectId, pageable);
+    }
+
+    public TaskSummaryResponse getTaskSummary(UUID projectId, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Fetching task summary for project: {} by user: {}", projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        return taskCounterService.getSummary(projectId);
+    }
+
+    public SseEmitter subscribeToTaskEvents(UUID projectId, Long lastEventId, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Subscribing to task events of project: {} by user: {}", projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        return taskEventBroadcaster.subscribe(projectId, currentUserId, lastEventId);
+    }
+
+    public StreamingResponseBody exportTasks(UUID projectId, TaskFileFormat format, boolean gzip, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Exporting tasks of project: {} as {} by user: {}", projectId, format, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        // Runs on the async request thread once the headers are sent, inside its own read-only transaction
+        return out -> taskExportWriter.write(projectId, format, gzip, out);
+    }
+
+    public StreamingResponseBody importTasks(UUID projectId, TaskFileFormat format, InputStream in, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Importing {} tasks into project: {} by user: {}", format, projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        // Loaded once so every row's assignee is checked in memory rather than with a query per row
+        Set<UUID> memberIds = projectMemberRepository.findUserIdsByProjectId(projectId);
+
+        return out -> taskImporter.importTasks(projectId, currentUserId, memberIds, format, in, out);
+    }
+
     public TaskResponse getTaskResponse(Task task) {
         return taskMapper.toResponse(task);
     }
@@ -79,17 +235,11 @@ public class TaskService {
         UUID currentUserId = CustomUserDetails.getUserId(authentication);
         log.debug("Assigning task {} to user {} by user: {}", taskId, request.assignedUserId(), authentication.getName());
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId));
-
-        validateUserIsProjectMember(currentUserId, task.getProjectId());
-
-        if (request.assignedUserId() != null) {
-            validateUserIsProjectMember(request.assignedUserId(), task.getProjectId());
-        }
+        Task task = findTaskForUpdate(taskId, currentUserId, request.assignedUserId());
 
         task.setAssignedUserId(request.assignedUserId());
-        taskRepository.save(task);
+        taskRepository.saveAndFlush(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.ASSIGNED, taskMapper.toResponse(task)));
 
         log.info("Task {} assigned to user {} successfully", taskId, request.assignedUserId());
     }
@@ -98,18 +248,19 @@ public class TaskService {
         UUID currentUserId = CustomUserDetails.getUserId(authentication);
         log.debug("Fetching task details for task: {} by user: {}", taskId, authentication.getName());
 
-        Task task = taskRepository.findById(taskId)
+        TaskDetailView task = taskRepository.findTaskDetail(taskId, currentUserId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
 
-        validateUserIsProjectMember(currentUserId, task.getProjectId());
+        if (!task.isCallerMember()) {
+            log.warn("User {} is not a member of project {}", currentUserId, task.getProjectId());
+            throw new ProjectMembershipException(currentUserId.toString());
+        }
 
-        if (task.getAssignedUserId() == null) {
-            return taskMapper.toTaskDetailResponse(task, null);
+        if (task.getAssignedUserId() != null && task.getAssigneeUserId() == null) {
+            throw new ProjectMembershipException("Assigned user " + task.getAssignedUserId() + " is not a member of the project");
         }
 
-        return projectMemberRepository.findProjectMemberWithUser(task.getProjectId(), task.getAssignedUserId())
-                .map(memberView -> taskMapper.toTaskDetailResponse(task, memberView))
-                .orElseThrow(() -> new ProjectMembershipException("Assigned user " + task.getAssignedUserId() + " is not a member of the project"));
+        return taskMapper.toTaskDetailResponse(task);
     }
 
     @Transactional
@@ -117,14 +268,9 @@ public class TaskService {
         UUID currentUserId = CustomUserDetails.getUserId(authentication);
         log.debug("Updating task {} by user: {}", taskId, authentication.getName());
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId));
-
-        validateUserIsProjectMember(currentUserId, task.getProjectId());
-
-        if (request.assignedUserId() != null) {
-            validateUserIsProjectMember(request.assignedUserId(), task.getProjectId());
-        }
+        Task task = findTaskForUpdate(taskId, currentUserId, request.assignedUserId());
+        TaskStatus previousStatus = task.getStatus();
+        TaskPriority previousPriority = task.getPriority();
 
         task.setTitle(request.title());
         task.setDescription(request.description());
@@ -132,13 +278,75 @@ public class TaskService {
         task.setPriority(request.priority());
         task.setAssignedUserId(request.assignedUserId());
 
-        taskRepository.save(task);
+        taskRepository.saveAndFlush(task);
+        taskCounterService.taskChanged(task.getProjectId(), previousStatus, previousPriority, task.getStatus(), task.getPriority());
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, taskMapper.toResponse(task)));
 
         log.info("Task {} updated successfully by user: {}", taskId, authentication.getName());
     }
 
+    @Transactional
+    public BulkUpdateTaskResponse updateTasks(BulkUpdateTaskRequest request, UUID projectId, Authentication authentication) {
+        UUID currentUserId = CustomUserDetails.getUserId(authentication);
+        log.debug("Bulk updating tasks for project: {} by user: {}", projectId, authentication.getName());
+
+        validateUserIsProjectMember(currentUserId, projectId);
+
+        if (request.assignedUserId() != null && !request.assignedUserId().equals(currentUserId)) {
+            validateUserIsProjectMember(request.assignedUserId(), projectId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> updatedIds = null;
+        int updated;
+
+        if (request.taskIds() != null && !request.taskIds().isEmpty()) {
+            // Ids of other projects or of missing tasks are dropped here, so the event names only the updated tasks
+            updatedIds = taskRepository.findIdsInProject(projectId, Set.copyOf(request.taskIds()));
+            updated = updatedIds.isEmpty() ? 0 : taskRepository.bulkUpdateByIds(projectId, updatedIds,
+                    request.status(), request.priority(), request.assignedUserId(), request.unassign(), now);
+        } else {
+            BulkTaskFilter filter = request.filter();
+            updated = taskRepository.bulkUpdateByFilter(projectId,
+                    filter.status(), filter.priority(), filter.assignedUserId(),
+                    request.status(), request.priority(), request.assignedUserId(), request.unassign(), now);
+        }
+
+        if (updated > 0) {
+            if (request.status() != null || request.priority() != null) {
+                taskCounterService.recount(projectId);
+            }
+            // A filter can match any number of tasks, so it is announced as a project-wide change
+            eventPublisher.publishEvent(updatedIds != null
+                    ? TaskChangedEvent.bulk(projectId, TaskChangeType.BULK_UPDATED, updatedIds)
+                    : TaskChangedEvent.projectWide(projectId, TaskChangeType.BULK_UPDATED));
+        }
+
+        log.info("Bulk updated {} tasks for project: {} by user: {}", updated, projectId, authentication.getName());
+
+        return new BulkUpdateTaskResponse(updated);
+    }
+
+    private Task findTaskForUpdate(UUID taskId, UUID currentUserId, UUID assignedUserId) {
+        TaskAccessView access = taskRepository.findTaskForUpdate(taskId, currentUserId, assignedUserId)
+                .orElseThrow(() -> new TaskNotFoundException(taskId));
+        Task task = access.getTask();
+
+        if (!access.isCallerMember()) {
+            log.warn("User {} is not a member of project {}", currentUserId, task.getProjectId());
+            throw new ProjectMembershipException(currentUserId.toString());
+        }
+
+        if (assignedUserId != null && !access.isAssigneeMember()) {
+            log.warn("User {} is not a member of project {}", assignedUserId, task.getProjectId());
+            throw new ProjectMembershipException(assignedUserId.toString());
+        }
+
+        return task;
+    }
+
     private void validateUserIsProjectMember(UUID userId, UUID projectId) {
-        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+        if (!membershipCache.isMember(projectId, userId)) {
             log.warn("User {} is not a member of project {}", userId, projectId);
             throw new ProjectMembershipException(userId.toString());
         }
@@ -0,0 +1,65 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskFilterRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(UUID projectId, TaskFilterRequest filter) {
+        Specification<Task> specification = inProject(projectId);
+        if (filter == null) {
+            return specification;
+        }
+
+        return specification
+                .and(attributeIn("status", filter.status()))
+                .and(attributeIn("priority", filter.priority()))
+                .and(attributeEquals("assignedUserId", filter.assignedUserId()))
+                .and(attributeEquals("createdById", filter.createdById()))
+                .and(between("createdAt", filter.createdAfter(), filter.createdBefore()))
+                .and(between("updatedAt", filter.updatedAfter(), filter.updatedBefore()));
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("projectId"), projectId);
+    }
+
+    private static Specification<Task> attributeIn(String attribute, Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+
+    private static Specification<Task> attributeEquals(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static Specification<Task> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get(attribute), from),
+                    cb.lessThan(root.get(attribute), to)
+            );
+        };
+    }
+}
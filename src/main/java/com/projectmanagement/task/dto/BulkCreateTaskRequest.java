@@ -0,0 +1,13 @@
+package com.projectmanagement.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCreateTaskRequest(
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "A bulk request must not exceed 1000 tasks")
+    List<@Valid CreateTaskRequest> tasks
+) {}
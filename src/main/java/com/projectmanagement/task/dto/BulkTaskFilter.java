@@ -0,0 +1,16 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+
+import java.util.UUID;
+
+public record BulkTaskFilter(
+    TaskStatus status,
+    TaskPriority priority,
+    UUID assignedUserId
+) {
+    public boolean isEmpty() {
+        return status == null && priority == null && assignedUserId == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.projectmanagement.task.dto;
+
+import java.util.List;
+
+public record BulkTaskResponse(
+    int succeeded,
+    int failed,
+    List<BulkTaskResult> results
+) {
+    public static BulkTaskResponse of(List<BulkTaskResult> results) {
+        int succeeded = (int) results.stream().filter(BulkTaskResult::success).count();
+        return new BulkTaskResponse(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,18 @@
+package com.projectmanagement.task.dto;
+
+import java.util.UUID;
+
+public record BulkTaskResult(
+    int index,
+    UUID id,
+    boolean success,
+    String error
+) {
+    public static BulkTaskResult succeeded(int index, UUID id) {
+        return new BulkTaskResult(index, id, true, null);
+    }
+
+    public static BulkTaskResult failed(int index, String error) {
+        return new BulkTaskResult(index, null, false, error);
+    }
+}
@@ -0,0 +1,43 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUpdateTaskRequest(
+    @Size(max = 1000, message = "A bulk request must not exceed 1000 tasks")
+    List<@NotNull UUID> taskIds,
+
+    BulkTaskFilter filter,
+
+    TaskStatus status,
+
+    TaskPriority priority,
+
+    UUID assignedUserId,
+
+    // Clears the assignee; a null assignedUserId alone leaves it unchanged
+    boolean unassign
+) {
+    @AssertTrue(message = "Either taskIds or a non-empty filter must be provided, but not both")
+    public boolean isSelectionValid() {
+        boolean hasTaskIds = taskIds != null && !taskIds.isEmpty();
+        boolean hasFilter = filter != null && !filter.isEmpty();
+        return hasTaskIds != hasFilter;
+    }
+
+    @AssertTrue(message = "At least one of status, priority, assignedUserId or unassign must be provided")
+    public boolean isChangePresent() {
+        return status != null || priority != null || assignedUserId != null || unassign;
+    }
+
+    @AssertTrue(message = "assignedUserId and unassign cannot be combined")
+    public boolean isAssigneeChangeValid() {
+        return !(unassign && assignedUserId != null);
+    }
+}
@@ -0,0 +1,5 @@
+package com.projectmanagement.task.dto;
+
+public record BulkUpdateTaskResponse(
+    int updated
+) {}
@@ -0,0 +1,9 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.Task;
+
+public interface TaskAccessView {
+    Task getTask();
+    boolean isCallerMember();
+    boolean isAssigneeMember();
+}
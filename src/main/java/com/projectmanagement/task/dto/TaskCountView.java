@@ -0,0 +1,10 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+
+public interface TaskCountView {
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    long getTaskCount();
+}
@@ -0,0 +1,26 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskDetailView {
+    UUID getId();
+    String getTitle();
+    String getDescription();
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    UUID getProjectId();
+    UUID getAssignedUserId();
+    UUID getCreatedById();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    boolean isCallerMember();
+    UUID getAssigneeUserId();
+    String getAssigneeUsername();
+    String getAssigneeEmail();
+    String getAssigneeRole();
+    LocalDateTime getAssigneeJoinedAt();
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.projectmanagement.task.enums.TaskImportEventType;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskImportEvent(
+        TaskImportEventType type,
+        Long row,
+        String error,
+        Long processed,
+        Long imported,
+        Long rejected
+) {
+    public static TaskImportEvent rowRejected(long row, String error) {
+        return new TaskImportEvent(TaskImportEventType.ROW_REJECTED, row, error, null, null, null);
+    }
+
+    public static TaskImportEvent progress(long processed, long imported, long rejected) {
+        return new TaskImportEvent(TaskImportEventType.PROGRESS, null, null, processed, imported, rejected);
+    }
+
+    public static TaskImportEvent completed(long processed, long imported, long rejected) {
+        return new TaskImportEvent(TaskImportEventType.COMPLETED, null, null, processed, imported, rejected);
+    }
+
+    public static TaskImportEvent aborted(String error, long processed, long imported, long rejected) {
+        return new TaskImportEvent(TaskImportEventType.ABORTED, null, error, processed, imported, rejected);
+    }
+}
@@ -0,0 +1,8 @@
+package com.projectmanagement.task.dto;
+
+public record TaskSearchResult(
+    TaskResponse task,
+    double score,
+    String titleHighlight,
+    String descriptionHighlight
+) {}
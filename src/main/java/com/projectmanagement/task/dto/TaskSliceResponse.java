@@ -0,0 +1,10 @@
+package com.projectmanagement.task.dto;
+
+import java.util.List;
+
+public record TaskSliceResponse(
+    List<TaskResponse> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
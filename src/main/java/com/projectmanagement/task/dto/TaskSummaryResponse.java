@@ -0,0 +1,14 @@
+package com.projectmanagement.task.dto;
+
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record TaskSummaryResponse(
+    UUID projectId,
+    long total,
+    Map<TaskStatus, Long> byStatus,
+    Map<TaskPriority, Long> byPriority
+) {}
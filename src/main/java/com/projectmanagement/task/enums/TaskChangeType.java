@@ -0,0 +1,10 @@
+package com.projectmanagement.task.enums;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    ASSIGNED,
+    BULK_CREATED,
+    BULK_UPDATED,
+    RESET
+}
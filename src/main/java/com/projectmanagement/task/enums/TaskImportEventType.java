@@ -0,0 +1,8 @@
+package com.projectmanagement.task.enums;
+
+public enum TaskImportEventType {
+    ROW_REJECTED,
+    PROGRESS,
+    COMPLETED,
+    ABORTED
+}
@@ -1,13 +1,19 @@
 package com.projectmanagement.user;
 
+import com.projectmanagement.auth.AuthService;
 import com.projectmanagement.user.dto.UserResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -15,10 +21,18 @@ public class UserController {
 
     private final UserService userService;
     private final UserMapper userMapper;
+    private final AuthService authService;
 
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
         UserResponse currentUser = userService.getCurrentUser(authentication);
         return ResponseEntity.ok(currentUser);
     }
+
+    @PostMapping("/{userId}/disable")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> disableUser(@PathVariable UUID userId) {
+        authService.disableUser(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -2,28 +2,36 @@ package com.projectmanagement.user;
 
 import com.projectmanagement.auth.CustomUserDetails;
 import com.projectmanagement.auth.dto.RegisterUserRequest;
+import com.projectmanagement.config.CacheNames;
 import com.projectmanagement.exception.UserAlreadyExistsException;
+import com.projectmanagement.exception.UserNotFoundException;
 import com.projectmanagement.user.dto.UserResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#request.email()")
     public User createUser(RegisterUserRequest request) {
         log.debug("Creating user with username: {}", request.username());
 
@@ -46,12 +54,41 @@ public class UserService implements UserDetailsService {
         return new CustomUserDetails(user);
     }
 
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#userDetails.username")
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        log.info("Upgrading password hash for user: {}", userDetails.getUsername());
+
+        userRepository.updatePasswordByEmail(userDetails.getUsername(), newEncodedPassword);
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            return customUserDetails.withPassword(newEncodedPassword);
+        }
+        return loadUserByUsername(userDetails.getUsername());
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#result.email")
+    public User disableUser(UUID userId) {
+        log.info("Disabling user: {}", userId);
+
+        User user = findById(userId);
+        user.setEnabled(false);
+        return userRepository.save(user);
+    }
+
+    public User findById(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
     public User findByEmail(String email) {
         log.debug("Querying database for user with email: {}", email);
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#authentication.name")
     public UserResponse getCurrentUser(Authentication authentication) {
         String email = authentication.getName();
 
@@ -0,0 +1,12 @@
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization), on every start
+
+-- Full-text search for PostgresTaskSearchEngine; the 'english' configuration is also
+-- hardcoded in its queries and must be changed in both places together.
+-- The generated column keeps the vector in sync with every insert and update, including bulk ones.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
@@ -0,0 +1,12 @@
+-- KEYS[1] hash holding the revocation watermark of every user
+-- ARGV[1] user id
+-- ARGV[2] proposed watermark in epoch seconds
+local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+local proposed = tonumber(ARGV[2])
+
+if current ~= nil and current >= proposed then
+    return current
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+return proposed
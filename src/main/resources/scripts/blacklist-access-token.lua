@@ -0,0 +1,19 @@
+-- Needs a standalone or Sentinel Redis: the token key and the shared count bucket hash to different
+-- cluster slots, and RedisTokenStore refuses to start against a cluster.
+-- KEYS[1] blacklist key of the token
+-- KEYS[2] counter of the expiry bucket the token falls in
+-- ARGV[1] remaining lifetime of the token in millis
+-- ARGV[2] end of the expiry bucket in epoch millis
+-- ARGV[3] channel announcing the new entry, empty to skip the announcement
+-- ARGV[4] event published on that channel
+if not redis.call('SET', KEYS[1], 'blacklisted', 'PX', ARGV[1], 'NX') then
+    return 0
+end
+
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+if ARGV[3] ~= '' then
+    redis.call('PUBLISH', ARGV[3], ARGV[4])
+end
+
+return 1
@@ -0,0 +1,26 @@
+-- Rotates a refresh token issued before the per-user index, stored as a string key holding the email
+-- KEYS[1] blacklist key of the presented refresh token
+-- KEYS[2] legacy storage key of the presented refresh token
+-- KEYS[3] sorted set of the user's refresh tokens (member jti, score expiry in epoch millis)
+-- ARGV[1] email the presented token was issued to
+-- ARGV[2] jti of the new token
+-- ARGV[3] current time in epoch millis
+-- ARGV[4] expiry of the new token in epoch millis
+-- ARGV[5] remaining lifetime of the presented token in seconds
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[2])
+if tonumber(ARGV[5]) > 0 then
+    redis.call('SET', KEYS[1], 'blacklisted', 'EX', ARGV[5])
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[3])
+redis.call('ZADD', KEYS[3], ARGV[4], ARGV[2])
+redis.call('PEXPIREAT', KEYS[3], ARGV[4])
+
+return 1
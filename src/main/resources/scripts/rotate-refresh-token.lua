@@ -0,0 +1,25 @@
+-- KEYS[1] blacklist key of the presented refresh token
+-- KEYS[2] sorted set of the user's refresh tokens (member jti, score expiry in epoch millis)
+-- ARGV[1] jti of the presented token
+-- ARGV[2] jti of the new token
+-- ARGV[3] current time in epoch millis
+-- ARGV[4] expiry of the new token in epoch millis
+-- ARGV[5] remaining lifetime of the presented token in seconds
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[3]) then
+    return 0
+end
+
+redis.call('ZREM', KEYS[2], ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+if tonumber(ARGV[5]) > 0 then
+    redis.call('SET', KEYS[1], 'blacklisted', 'EX', ARGV[5])
+end
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[2])
+redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+
+return 1
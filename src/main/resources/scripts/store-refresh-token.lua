@@ -0,0 +1,12 @@
+-- KEYS[1] sorted set of the user's refresh tokens (member jti, score expiry in epoch millis)
+-- ARGV[1] jti of the new token
+-- ARGV[2] current time in epoch millis
+-- ARGV[3] expiry of the new token in epoch millis
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2])
+redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+
+-- The set lives as long as its longest-lived token, which is not always the newest one
+local latest = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+redis.call('PEXPIREAT', KEYS[1], latest[2])
+
+return 1
@@ -88,6 +88,19 @@ public final class AuthTestUtils {
         );
     }
 
+    public static ResponseEntity<Void> logoutAllWithToken(TestRestTemplate restTemplate,
+                                                          String token) {
+        HttpHeaders headers = createAuthHeaders(token);
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        return restTemplate.exchange(
+                ApiEndpoints.LOGOUT_ALL_URL,
+                HttpMethod.POST,
+                entity,
+                Void.class
+        );
+    }
+
     public static ResponseEntity<ErrorResponse> tryToAccessProtectedEndpointWithToken(TestRestTemplate restTemplate,
                                                                                       String token) {
         HttpHeaders headers = createAuthHeaders(token);
@@ -130,6 +143,31 @@ public final class AuthTestUtils {
         );
     }
 
+    public static ResponseEntity<SessionResponse[]> listSessions(TestRestTemplate restTemplate,
+                                                                String token) {
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders(token));
+
+        return restTemplate.exchange(
+                ApiEndpoints.SESSIONS_URL,
+                HttpMethod.GET,
+                entity,
+                SessionResponse[].class
+        );
+    }
+
+    public static ResponseEntity<Void> revokeSession(TestRestTemplate restTemplate,
+                                                     String token,
+                                                     String sessionId) {
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders(token));
+
+        return restTemplate.exchange(
+                ApiEndpoints.SESSIONS_URL + "/" + sessionId,
+                HttpMethod.DELETE,
+                entity,
+                Void.class
+        );
+    }
+
     public static ResponseEntity<ErrorResponse> logoutWithoutToken(TestRestTemplate restTemplate) {
         HttpHeaders headers = createJsonHeaders();
         HttpEntity<Void> entity = new HttpEntity<>(headers);
@@ -0,0 +1,176 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("In-Memory Token Store")
+class InMemoryTokenStoreTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String CURRENT_JTI = "current-jti";
+    private static final String NEW_JTI = "new-jti";
+
+    private TokenStoreProperties properties;
+    private JwtProperties jwtProperties;
+    private InMemoryTokenStore tokenStore;
+
+    private long getFutureExpiration() {
+        return System.currentTimeMillis() + 3600000; // 1 hour from now
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenStoreProperties();
+        jwtProperties = new JwtProperties();
+        tokenStore = new InMemoryTokenStore(properties, jwtProperties);
+    }
+
+    @Nested
+    @DisplayName("Access Token Blacklist")
+    class AccessTokenBlacklist {
+
+        @Test
+        @DisplayName("Should report blacklisted token until its TTL elapses")
+        void given_blacklistedToken_when_ttlElapses_then_tokenIsNoLongerBlacklisted() throws InterruptedException {
+            // Given
+            tokenStore.blacklistAccessToken(CURRENT_JTI, Duration.ofMillis(50));
+
+            // Then
+            assertThat(tokenStore.isAccessTokenBlacklisted(CURRENT_JTI)).isTrue();
+            assertThat(tokenStore.countBlacklistedAccessTokens()).isEqualTo(1);
+
+            // When
+            Thread.sleep(100);
+
+            // Then
+            assertThat(tokenStore.isAccessTokenBlacklisted(CURRENT_JTI)).isFalse();
+            assertThat(tokenStore.countBlacklistedAccessTokens()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should remove every entry when clearing the blacklist")
+        void given_blacklistedTokens_when_clear_then_blacklistIsEmpty() {
+            // Given
+            tokenStore.blacklistAccessToken(CURRENT_JTI, Duration.ofMinutes(5));
+            tokenStore.blacklistAccessToken(NEW_JTI, Duration.ofMinutes(5));
+
+            // When
+            long removed = tokenStore.clearAccessTokenBlacklist();
+
+            // Then
+            assertThat(removed).isEqualTo(2);
+            assertThat(tokenStore.isAccessTokenBlacklisted(CURRENT_JTI)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tokens")
+    class RefreshTokens {
+
+        @Test
+        @DisplayName("Should rotate a stored refresh token exactly once")
+        void given_storedRefreshToken_when_rotatedTwice_then_onlyFirstRotationSucceeds() {
+            // Given
+            long expiresAt = getFutureExpiration();
+            tokenStore.storeRefreshToken(USER_ID, CURRENT_JTI, expiresAt);
+
+            // When & Then
+            assertThat(tokenStore.rotateRefreshToken(USER_ID, CURRENT_JTI, expiresAt, NEW_JTI, expiresAt)).isTrue();
+            assertThat(tokenStore.rotateRefreshToken(USER_ID, CURRENT_JTI, expiresAt, "other-jti", expiresAt)).isFalse();
+            assertThat(tokenStore.findRefreshTokens(USER_ID)).containsOnlyKeys(NEW_JTI);
+        }
+
+        @Test
+        @DisplayName("Should not rotate an unknown refresh token")
+        void given_unknownRefreshToken_when_rotate_then_shouldFail() {
+            // When
+            boolean rotated = tokenStore.rotateRefreshToken(USER_ID, CURRENT_JTI, getFutureExpiration(), NEW_JTI, getFutureExpiration());
+
+            // Then
+            assertThat(rotated).isFalse();
+            assertThat(tokenStore.findRefreshTokens(USER_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should prune expired refresh tokens when listing")
+        void given_expiredRefreshToken_when_findRefreshTokens_then_shouldOnlyReturnLiveTokens() {
+            // Given
+            tokenStore.storeRefreshToken(USER_ID, CURRENT_JTI, System.currentTimeMillis() - 1000);
+            tokenStore.storeRefreshToken(USER_ID, NEW_JTI, getFutureExpiration());
+
+            // When & Then
+            assertThat(tokenStore.findRefreshTokens(USER_ID)).containsOnlyKeys(NEW_JTI);
+        }
+
+        @Test
+        @DisplayName("Should remove one or all refresh tokens of a user")
+        void given_storedRefreshTokens_when_removed_then_shouldNoLongerBeListed() {
+            // Given
+            tokenStore.storeRefreshToken(USER_ID, CURRENT_JTI, getFutureExpiration());
+            tokenStore.storeRefreshToken(USER_ID, NEW_JTI, getFutureExpiration());
+
+            // When & Then
+            assertThat(tokenStore.removeRefreshToken(USER_ID, CURRENT_JTI)).isTrue();
+            assertThat(tokenStore.removeRefreshToken(USER_ID, CURRENT_JTI)).isFalse();
+
+            tokenStore.removeAllRefreshTokens(USER_ID);
+            assertThat(tokenStore.findRefreshTokens(USER_ID)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Revocation Watermarks")
+    class RevocationWatermarks {
+
+        @Test
+        @DisplayName("Should never move a revocation watermark backwards")
+        void given_watermark_when_advancedWithOlderValue_then_shouldKeepNewerValue() {
+            // Given
+            long now = System.currentTimeMillis() / 1000;
+            tokenStore.advanceRevocationWatermark(USER_ID, now);
+
+            // When
+            long effective = tokenStore.advanceRevocationWatermark(USER_ID, now - 60);
+
+            // Then
+            assertThat(effective).isEqualTo(now);
+            assertThat(tokenStore.findRevocationWatermark(USER_ID)).isEqualTo(now);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("Should restore live entries from the snapshot written on shutdown")
+        void given_snapshotPath_when_storeRestarts_then_liveEntriesAreRestored(@TempDir Path directory) {
+            // Given
+            properties.setSnapshotPath(directory.resolve("token-store.snapshot").toString());
+            long watermark = System.currentTimeMillis() / 1000;
+            tokenStore.blacklistAccessToken(CURRENT_JTI, Duration.ofMinutes(5));
+            tokenStore.storeRefreshToken(USER_ID, NEW_JTI, getFutureExpiration());
+            tokenStore.advanceRevocationWatermark(USER_ID, watermark);
+
+            // When
+            tokenStore.writeSnapshot();
+            InMemoryTokenStore restarted = new InMemoryTokenStore(properties, jwtProperties);
+            restarted.restoreSnapshot();
+
+            // Then
+            assertThat(restarted.isAccessTokenBlacklisted(CURRENT_JTI)).isTrue();
+            assertThat(restarted.findRefreshTokens(USER_ID)).containsOnlyKeys(NEW_JTI);
+            assertThat(restarted.findRevocationWatermark(USER_ID)).isEqualTo(watermark);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.projectmanagement.auth;
 
+import com.projectmanagement.config.JwtProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,18 +10,23 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
-import java.time.Duration;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -34,13 +40,18 @@ class JwtBlackListServiceTest {
     @Mock
     private JwtBlackListProperties properties;
 
+    @Mock
+    private JwtProperties jwtProperties;
+
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
     private ValueOperations<String, String> valueOperations;
 
-    @InjectMocks
+    @Mock
+    private JwtBlackListLocalCache localCache;
+
     private JwtBlackListService jwtBlackListService;
 
     private static final String VALID_JTI = "test-jti-123";
@@ -63,9 +74,15 @@ class JwtBlackListServiceTest {
         // Setup default property values
         when(properties.getKeyPrefix()).thenReturn("jwt:blacklist");
         when(properties.getTtlBufferSeconds()).thenReturn(300);
+        when(properties.getCountBucketSeconds()).thenReturn(60);
+        when(jwtProperties.getExpiration()).thenReturn(1800000L);
 
         // Setup Redis template mock
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // Exercise the service against the Redis token store backed by the mocked template
+        jwtBlackListService = new JwtBlackListService(
+                properties, new RedisTokenStore(properties, jwtProperties, redisTemplate), localCache);
     }
 
     @Nested
@@ -83,7 +100,8 @@ class JwtBlackListServiceTest {
             jwtBlackListService.blacklistToken(VALID_JTI, futureExpiration);
 
             // Then
-            verify(valueOperations).set(eq(expectedKey), eq("blacklisted"), any(Duration.class));
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    argThat(keys -> keys.get(0).equals(expectedKey)), any(), any(), any(), any());
         }
 
         @ParameterizedTest
@@ -95,7 +113,7 @@ class JwtBlackListServiceTest {
             jwtBlackListService.blacklistToken(invalidJti, getFutureExpiration());
 
             // Then
-            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
         }
 
         @Test
@@ -108,7 +126,7 @@ class JwtBlackListServiceTest {
             jwtBlackListService.blacklistToken(VALID_JTI, pastExpiration);
 
             // Then
-            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
         }
 
         @Test
@@ -122,9 +140,11 @@ class JwtBlackListServiceTest {
             jwtBlackListService.blacklistToken(VALID_JTI, futureExpiration);
 
             // Then
-            verify(valueOperations).set(eq(expectedKey), eq("blacklisted"), argThat(duration ->
-                duration.toSeconds() >= 1000 && duration.toSeconds() <= 2000 // ~16 min + 5 min buffer
-            ));
+            verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys.get(0).equals(expectedKey)),
+                    argThat(ttlMillis -> {
+                        long ttlSeconds = Long.parseLong(ttlMillis.toString()) / 1000;
+                        return ttlSeconds >= 1000 && ttlSeconds <= 2000; // ~16 min + 5 min buffer
+                    }), any(), any(), any());
         }
     }
 
@@ -177,73 +197,158 @@ class JwtBlackListServiceTest {
     }
 
 
+    @Nested
+    @DisplayName("Local Cache Lookups")
+    class LocalCacheLookups {
+
+        @Test
+        @DisplayName("Should answer from local cache without querying Redis when cache is authoritative")
+        void given_authoritativeLocalCache_when_isBlacklisted_then_shouldNotQueryRedis() {
+            // Given
+            when(localCache.isAuthoritative()).thenReturn(true);
+            when(localCache.contains(VALID_JTI)).thenReturn(true);
+            when(localCache.contains(ANOTHER_JTI)).thenReturn(false);
+
+            // When & Then
+            assertThat(jwtBlackListService.isBlacklisted(VALID_JTI)).isTrue();
+            assertThat(jwtBlackListService.isBlacklisted(ANOTHER_JTI)).isFalse();
+            verify(redisTemplate, never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("Should record token locally and publish event when blacklisting")
+        void given_localCacheEnabled_when_blacklistToken_then_shouldAddLocallyAndPublish() {
+            // Given
+            when(properties.isLocalCacheEnabled()).thenReturn(true);
+            when(properties.getEventsChannel()).thenReturn("jwt:blacklist:events");
+
+            // When
+            jwtBlackListService.blacklistToken(VALID_JTI, getFutureExpiration());
+
+            // Then
+            verify(localCache).add(eq(VALID_JTI), longThat(expiresAt -> expiresAt > getCurrentTime()));
+            verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(),
+                    eq("jwt:blacklist:events"), endsWith("|" + VALID_JTI));
+        }
+
+        @Test
+        @DisplayName("Should not publish events when local cache is disabled")
+        void given_localCacheDisabled_when_blacklistToken_then_shouldNotPublish() {
+            // Given
+            when(properties.isLocalCacheEnabled()).thenReturn(false);
+
+            // When
+            jwtBlackListService.blacklistToken(VALID_JTI, getFutureExpiration());
+
+            // Then
+            verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), eq(""), any());
+            verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Utility Methods")
     class UtilityMethods {
 
         @Test
-        @DisplayName("Should return correct blacklisted tokens count")
+        @DisplayName("Should sum active expiry buckets for blacklisted tokens count")
         void given_multipleTokens_when_getBlacklistedTokensCount_then_shouldReturnCorrectCount() {
             // Given
-            Set<String> mockKeys = Set.of("jwt:blacklist:token-1", "jwt:blacklist:token-2", "jwt:blacklist:token-3");
-            when(redisTemplate.keys("jwt:blacklist:*")).thenReturn(mockKeys);
+            when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("2", null, "1"));
 
             // When
             int count = jwtBlackListService.getBlacklistedTokensCount();
 
             // Then
             assertThat(count).isEqualTo(3);
-            verify(redisTemplate).keys("jwt:blacklist:*");
+            verify(redisTemplate, never()).keys(anyString());
+        }
+
+        @Test
+        @DisplayName("Should query only buckets within the maximum token lifetime")
+        void given_configuredExpiration_when_getBlacklistedTokensCount_then_shouldQueryBoundedBuckets() {
+            // Given
+            when(valueOperations.multiGet(anyList())).thenReturn(List.of());
+
+            // When
+            jwtBlackListService.getBlacklistedTokensCount();
+
+            // Then (30 min expiration + 5 min buffer in 60s buckets)
+            verify(valueOperations).multiGet(argThat(keys ->
+                keys.size() >= 36 && keys.size() <= 37
+                    && keys.stream().allMatch(key -> key.startsWith("jwt:blacklist-count:"))
+            ));
+        }
+
+        @Test
+        @DisplayName("Should pass the expiry bucket counter to the blacklist script")
+        void given_validToken_when_blacklistToken_then_shouldCountInExpiryBucket() {
+            // Given
+            long futureExpiration = getFutureExpiration();
+
+            // When
+            jwtBlackListService.blacklistToken(VALID_JTI, futureExpiration);
+
+            // Then the bucket holding the expiry is counted and expires when the bucket ends
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    argThat(keys -> keys.get(1).startsWith("jwt:blacklist-count:")),
+                    any(),
+                    argThat(bucketEnd -> Long.parseLong(bucketEnd.toString()) > futureExpiration),
+                    any(), any());
         }
 
         @Test
         @DisplayName("Should return zero count for empty blacklist")
         void given_emptyBlacklist_when_getBlacklistedTokensCount_then_shouldReturnZero() {
             // Given
-            when(redisTemplate.keys("jwt:blacklist:*")).thenReturn(Set.of());
+            when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
 
             // When
             int count = jwtBlackListService.getBlacklistedTokensCount();
 
             // Then
             assertThat(count).isZero();
-            verify(redisTemplate).keys("jwt:blacklist:*");
         }
 
         @Test
-        @DisplayName("Should clear all blacklisted tokens")
+        @DisplayName("Should clear all blacklisted tokens using SCAN and UNLINK")
         void given_multipleTokens_when_clearAll_then_shouldRemoveAllTokens() {
             // Given
-            Set<String> mockKeys = Set.of("jwt:blacklist:token-1", "jwt:blacklist:token-2", "jwt:blacklist:token-3");
-            when(redisTemplate.keys("jwt:blacklist:*")).thenReturn(mockKeys);
+            Cursor<String> tokenKeys = cursorOf("jwt:blacklist:token-1", "jwt:blacklist:token-2", "jwt:blacklist:token-3");
+            Cursor<String> counterKeys = cursorOf("jwt:blacklist-count:100");
+            when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(tokenKeys, counterKeys);
 
             // When
             jwtBlackListService.clearAll();
 
             // Then
-            verify(redisTemplate).keys("jwt:blacklist:*");
-            verify(redisTemplate).delete(mockKeys);
+            verify(redisTemplate, never()).keys(anyString());
+            verify(redisTemplate).unlink(List.of("jwt:blacklist:token-1", "jwt:blacklist:token-2", "jwt:blacklist:token-3"));
+            verify(redisTemplate).unlink(List.of("jwt:blacklist-count:100"));
+            verify(localCache).clear();
         }
 
         @Test
         @DisplayName("Should handle clear all on empty blacklist")
         void given_emptyBlacklist_when_clearAll_then_shouldHandleGracefully() {
             // Given
-            when(redisTemplate.keys("jwt:blacklist:*")).thenReturn(Set.of());
+            Cursor<String> tokenKeys = cursorOf();
+            Cursor<String> counterKeys = cursorOf();
+            when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(tokenKeys, counterKeys);
 
             // When
             jwtBlackListService.clearAll();
 
             // Then
-            verify(redisTemplate).keys("jwt:blacklist:*");
+            verify(redisTemplate, never()).unlink(anyCollection());
             verify(redisTemplate, never()).delete(any(Collection.class));
         }
 
         @Test
-        @DisplayName("Should handle null keys gracefully in count operation")
-        void given_nullKeysFromRedis_when_getBlacklistedTokensCount_then_shouldReturnZero() {
+        @DisplayName("Should handle null bucket values from Redis in count operation")
+        void given_nullBucketsFromRedis_when_getBlacklistedTokensCount_then_shouldReturnZero() {
             // Given
-            when(redisTemplate.keys("jwt:blacklist:*")).thenReturn(null);
+            when(valueOperations.multiGet(anyList())).thenReturn(null);
 
             // When
             int count = jwtBlackListService.getBlacklistedTokensCount();
@@ -252,4 +357,45 @@ class JwtBlackListServiceTest {
             assertThat(count).isZero();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Redis Topology")
+    class RedisTopology {
+
+        @Test
+        @DisplayName("Should refuse a Redis cluster, whose slots the token store scripts would span")
+        void given_clusterConnectionFactory_when_starting_then_shouldFail() {
+            // Given
+            LettuceConnectionFactory connectionFactory = mock(LettuceConnectionFactory.class);
+            when(connectionFactory.isClusterAware()).thenReturn(true);
+            when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+            RedisTokenStore tokenStore = new RedisTokenStore(properties, jwtProperties, redisTemplate);
+
+            // When / Then
+            assertThatThrownBy(tokenStore::requireSingleKeyspace)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("not a cluster");
+        }
+
+        @Test
+        @DisplayName("Should accept a standalone or Sentinel Redis")
+        void given_standaloneConnectionFactory_when_starting_then_shouldSucceed() {
+            // Given
+            LettuceConnectionFactory connectionFactory = mock(LettuceConnectionFactory.class);
+            when(connectionFactory.isClusterAware()).thenReturn(false);
+            when(redisTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+
+            // When / Then
+            new RedisTokenStore(properties, jwtProperties, redisTemplate).requireSingleKeyspace();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
@@ -0,0 +1,120 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("JWT BlackList Synchronizer")
+class JwtBlackListSynchronizerTest {
+
+    private static final byte[] CHANNEL = "jwt:blacklist:events".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private JwtBlackListProperties properties;
+    private JwtBlackListLocalCache localCache;
+    private JwtBlackListSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtBlackListProperties();
+        localCache = new JwtBlackListLocalCache(properties);
+        synchronizer = new JwtBlackListSynchronizer(properties, new JwtProperties(), localCache,
+                redisTemplate, listenerContainer);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> cursorOf("jwt:blacklist:revoked-jti"));
+    }
+
+    @Test
+    @DisplayName("Should load the revoked tokens from Redis and trust the local cache")
+    void given_revokedTokensInRedis_when_synchronize_then_cacheIsAuthoritative() {
+        // When
+        boolean synchronizedWithRedis = synchronizer.synchronize();
+
+        // Then
+        assertThat(synchronizedWithRedis).isTrue();
+        assertThat(localCache.isAuthoritative()).isTrue();
+        assertThat(localCache.contains("revoked-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report a failed synchronization and leave the cache untrusted")
+    void given_unreachableRedis_when_synchronize_then_cacheIsNotAuthoritative() {
+        // Given
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new IllegalStateException("connection refused"));
+
+        // When
+        boolean synchronizedWithRedis = synchronizer.synchronize();
+
+        // Then
+        assertThat(synchronizedWithRedis).isFalse();
+        assertThat(localCache.isAuthoritative()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add tokens announced by other nodes and clear on a clear event")
+    void given_synchronizedCache_when_eventsReceived_then_cacheFollowsThem() {
+        // Given
+        synchronizer.synchronize();
+
+        // When
+        receive(JwtBlackListSynchronizer.addedEvent("remote-jti", System.currentTimeMillis() + 60_000));
+
+        // Then
+        assertThat(localCache.contains("remote-jti")).isTrue();
+        receive(JwtBlackListSynchronizer.CLEAR_EVENT);
+        assertThat(localCache.size()).isZero();
+        assertThat(localCache.isAuthoritative()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop trusting the local cache when invalidated")
+    void given_synchronizedCache_when_invalidated_then_cacheIsNotAuthoritative() {
+        // Given
+        synchronizer.synchronize();
+
+        // When
+        synchronizer.invalidate();
+
+        // Then
+        assertThat(localCache.isAuthoritative()).isFalse();
+    }
+
+    private void receive(String event) {
+        synchronizer.onMessage(new DefaultMessage(CHANNEL, event.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
@@ -7,7 +7,12 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,6 +23,7 @@ public final class JwtTestUtils {
     }
 
     public static void cleanRedis(RedisTemplate<String, String> redisTemplate) {
+        cleanRedisKeyPattern(redisTemplate, "refresh_tokens:*");
         cleanRedisKeyPattern(redisTemplate, "refresh_token:*");
         cleanRedisKeyPattern(redisTemplate, "refresh_blacklist:*");
         cleanRedisKeyPattern(redisTemplate, "jwt:blacklist:*");
@@ -30,23 +36,59 @@ public final class JwtTestUtils {
         }
     }
 
+    // A refresh token as issued before the per-user index: no uid claim, stored as refresh_token:<jti> -> email
+    public static String issueLegacyRefreshToken(RedisTemplate<String, String> redisTemplate,
+                                                 JwtProperties jwtProperties,
+                                                 String email, String username, String role) {
+        String jti = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        String refreshToken = Jwts.builder()
+                .claims(Map.of("type", "refresh", "role", role, "username", username))
+                .subject(email)
+                .issuer(jwtProperties.getIssuer())
+                .id(jti)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtProperties.getRefreshExpiration()))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getRefreshSecret().getBytes()))
+                .compact();
+
+        redisTemplate.opsForValue().set(legacyRefreshTokenKey(jti), email,
+                Duration.ofMillis(jwtProperties.getRefreshExpiration()));
+        return refreshToken;
+    }
+
+    public static String legacyRefreshTokenKey(String jti) {
+        return "refresh_token:" + jti;
+    }
+
     public static String extractJtiFromToken(String token, JwtProperties jwtProperties, boolean isRefreshToken) {
+        return parseClaims(token, jwtProperties, isRefreshToken).getId();
+    }
+
+    public static String extractUserIdFromRefreshToken(String refreshToken, JwtProperties jwtProperties) {
+        return parseClaims(refreshToken, jwtProperties, true).get("uid", String.class);
+    }
+
+    private static Claims parseClaims(String token, JwtProperties jwtProperties, boolean isRefreshToken) {
         SecretKey key = isRefreshToken
                 ? Keys.hmacShaKeyFor(jwtProperties.getRefreshSecret().getBytes())
                 : Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
 
-        Claims claims = Jwts.parser()
+        return Jwts.parser()
                 .verifyWith(key)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
-        return claims.getId();
     }
 
     public static String extractJtiFromRefreshToken(String refreshToken, JwtProperties jwtProperties) {
         return extractJtiFromToken(refreshToken, jwtProperties, true);
     }
 
+    public static Instant extractExpirationFromRefreshToken(String refreshToken, JwtProperties jwtProperties) {
+        return parseClaims(refreshToken, jwtProperties, true).getExpiration().toInstant();
+    }
+
     public static String extractJtiFromAccessToken(String accessToken, JwtProperties jwtProperties) {
         return extractJtiFromToken(accessToken, jwtProperties, false);
     }
@@ -55,8 +97,22 @@ public final class JwtTestUtils {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
-    public static boolean isRefreshTokenInRedis(RedisTemplate<String, String> redisTemplate, String jti) {
-        return hasRedisKey(redisTemplate, "refresh_token:" + jti);
+    public static boolean isRefreshTokenInRedis(RedisTemplate<String, String> redisTemplate,
+                                                JwtProperties jwtProperties,
+                                                String refreshToken) {
+        return redisTemplate.opsForZSet().score(sessionsKey(refreshToken, jwtProperties),
+                extractJtiFromRefreshToken(refreshToken, jwtProperties)) != null;
+    }
+
+    public static void removeRefreshTokenFromRedis(RedisTemplate<String, String> redisTemplate,
+                                                   JwtProperties jwtProperties,
+                                                   String refreshToken) {
+        redisTemplate.opsForZSet().remove(sessionsKey(refreshToken, jwtProperties),
+                extractJtiFromRefreshToken(refreshToken, jwtProperties));
+    }
+
+    private static String sessionsKey(String refreshToken, JwtProperties jwtProperties) {
+        return "refresh_tokens:" + extractUserIdFromRefreshToken(refreshToken, jwtProperties);
     }
 
     public static boolean isRefreshTokenBlacklisted(RedisTemplate<String, String> redisTemplate, String jti) {
@@ -78,7 +134,7 @@ public final class JwtTestUtils {
                 .as("Old refresh token should be blacklisted")
                 .isTrue();
 
-        assertThat(isRefreshTokenInRedis(redisTemplate, newJti))
+        assertThat(isRefreshTokenInRedis(redisTemplate, jwtProperties, newRefreshToken))
                 .as("New refresh token should be stored in Redis")
                 .isTrue();
 
@@ -0,0 +1,131 @@
+package com.projectmanagement.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Local Cache Health Monitor")
+class LocalCacheHealthMonitorTest {
+
+    private static final byte[] CHANNEL = "jwt:local-cache:heartbeat".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private GuardedLocalCache blacklist;
+
+    @Mock
+    private GuardedLocalCache watermarks;
+
+    private JwtBlackListProperties properties;
+    private LocalCacheHealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtBlackListProperties();
+        monitor = new LocalCacheHealthMonitor(properties, List.of(blacklist, watermarks), redisTemplate, listenerContainer);
+        when(blacklist.synchronize()).thenReturn(true);
+        when(watermarks.synchronize()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should stop trusting every cache on resubscription and resync them once a heartbeat is heard")
+    void given_synchronizedCaches_when_channelResubscribed_then_cachesAreResyncedAfterNextHeartbeat() {
+        // Given
+        monitor.synchronizeAll();
+
+        // When the subscription is re-established after a connection loss
+        monitor.onChannelSubscribed(CHANNEL, 1);
+
+        // Then lookups fall back to Redis until a heartbeat follows a delivered message
+        verify(blacklist).invalidate();
+        verify(watermarks).invalidate();
+        monitor.heartbeat();
+        assertThat(monitor.isStale(blacklist)).isTrue();
+        receiveHeartbeat();
+        monitor.heartbeat();
+        assertThat(monitor.isStale(blacklist)).isFalse();
+        assertThat(monitor.isStale(watermarks)).isFalse();
+        verify(blacklist, times(2)).synchronize();
+        verify(watermarks, times(2)).synchronize();
+    }
+
+    @Test
+    @DisplayName("Should stop trusting every cache when no heartbeat has been heard for too long")
+    void given_silentChannel_when_heartbeatRuns_then_cachesAreStale() throws InterruptedException {
+        // Given
+        properties.setLocalCacheHeartbeatIntervalMs(10);
+        monitor.synchronizeAll();
+
+        // When no heartbeat, not even our own, arrives for several intervals
+        Thread.sleep(50);
+        monitor.heartbeat();
+
+        // Then
+        assertThat(monitor.isStale(blacklist)).isTrue();
+        assertThat(monitor.isStale(watermarks)).isTrue();
+        verify(redisTemplate).convertAndSend(properties.getLocalCacheHeartbeatChannel(), LocalCacheHealthMonitor.HEARTBEAT_EVENT);
+    }
+
+    @Test
+    @DisplayName("Should keep caches stale while the subscription stays dead")
+    void given_deadSubscription_when_heartbeatsAndResyncsRun_then_cachesStayStale() throws InterruptedException {
+        // Given
+        properties.setLocalCacheHeartbeatIntervalMs(10);
+        monitor.synchronizeAll();
+        Thread.sleep(50);
+        monitor.heartbeat();
+
+        // When nothing is ever delivered again, across many heartbeat intervals and a scheduled resync
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(15);
+            monitor.heartbeat();
+            assertThat(monitor.isStale(blacklist)).as("after heartbeat %d", i).isTrue();
+        }
+        monitor.resync();
+
+        // Then the caches were never trusted again
+        assertThat(monitor.isStale(blacklist)).isTrue();
+        verify(blacklist, times(1)).synchronize();
+    }
+
+    @Test
+    @DisplayName("Should keep only the cache that failed to synchronize stale")
+    void given_failingSynchronization_when_synchronizing_then_onlyThatCacheIsStale() {
+        // Given
+        when(watermarks.synchronize()).thenReturn(false);
+
+        // When
+        monitor.synchronizeAll();
+
+        // Then
+        assertThat(monitor.isStale(blacklist)).isFalse();
+        assertThat(monitor.isStale(watermarks)).isTrue();
+        verify(watermarks).invalidate();
+    }
+
+    private void receiveHeartbeat() {
+        monitor.onMessage(new DefaultMessage(CHANNEL,
+                LocalCacheHealthMonitor.HEARTBEAT_EVENT.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.projectmanagement.auth;
 
+import com.projectmanagement.auth.dto.LoginResponse;
 import com.projectmanagement.exception.dto.ErrorResponse;
 import com.projectmanagement.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,9 @@ class LogoutIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtBlackListService jwtBlackListService;
+
     @BeforeEach
     void setUp() {
         AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
@@ -90,6 +94,22 @@ class LogoutIntegrationTest {
         assertThat(secondLogout.getBody().message()).contains("Authentication required");
     }
 
+    @Test
+    @DisplayName("Given a blacklisted token, when it is blacklisted again, then it is counted once")
+    void givenBlacklistedToken_whenBlacklistedAgain_thenCountedOnce() {
+        // Given
+        jwtBlackListService.clearAll();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        jwtBlackListService.blacklistToken("repeated-jti", expiresAt);
+
+        // When a retried logout blacklists the same token
+        jwtBlackListService.blacklistToken("repeated-jti", expiresAt);
+
+        // Then
+        assertThat(jwtBlackListService.isBlacklisted("repeated-jti")).isTrue();
+        assertThat(jwtBlackListService.getBlacklistedTokensCount()).isEqualTo(1);
+    }
+
     @ParameterizedTest
     @DisplayName("Given I am logged in with any role, when I logout, then logout should be successful")
     @CsvSource({
@@ -136,4 +156,30 @@ class LogoutIntegrationTest {
         ResponseEntity<Void> newLogoutResponse = AuthTestUtils.logoutWithToken(restTemplate, newToken);
         assertThat(newLogoutResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Given I am logged in on two devices, when I logout everywhere, then every token issued before should be rejected")
+    void givenLoggedInOnTwoDevices_whenLogoutEverywhere_thenAllPreviouslyIssuedTokensShouldBeRejected() {
+        // Given I am logged in as admin on two devices
+        LoginResponse firstSession = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.ADMIN_EMAIL, TestUsers.ADMIN_PASSWORD);
+        LoginResponse secondSession = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.ADMIN_EMAIL, TestUsers.ADMIN_PASSWORD);
+
+        // When I logout everywhere from the first device
+        ResponseEntity<Void> response = AuthTestUtils.logoutAllWithToken(restTemplate, firstSession.accessToken());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        // Then the access tokens of both devices should be rejected
+        assertThat(AuthTestUtils.tryToAccessProtectedEndpointWithToken(restTemplate, firstSession.accessToken()).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(AuthTestUtils.tryToAccessProtectedEndpointWithToken(restTemplate, secondSession.accessToken()).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        // And the refresh tokens of both devices should be rejected
+        assertThat(AuthTestUtils.refreshTokenExpectingError(restTemplate, secondSession.refreshToken()).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        // And a login right after should issue working tokens
+        String newToken = AuthTestUtils.getAdminToken(restTemplate);
+        assertThat(AuthTestUtils.logoutWithToken(restTemplate, newToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,81 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.PasswordProperties;
+import com.projectmanagement.exception.LoginCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Password Hashing Executor")
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        PasswordProperties properties = new PasswordProperties();
+        properties.setHashingPoolSize(1);
+        properties.setHashingQueueCapacity(1);
+        properties.setHashingTimeout(100);
+        hashingExecutor = new PasswordHashingExecutor(properties);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return the task result when a thread is free")
+    void given_idlePool_when_taskSubmitted_then_resultIsReturned() {
+        // When
+        CompletableFuture<String> result = hashingExecutor.submit(() -> "token");
+
+        // Then
+        assertThat(result.join()).isEqualTo("token");
+    }
+
+    @Test
+    @DisplayName("Should drop a login that timed out while queued and free its queue slot")
+    void given_busyPool_when_queuedTaskTimesOut_then_taskIsDroppedAndSlotFreed() throws Exception {
+        // Given the only hashing thread is busy
+        CompletableFuture<Boolean> blocker = hashingExecutor.submit(() -> await(release));
+        AtomicBoolean queuedTaskRan = new AtomicBoolean();
+
+        // When a second login waits past the timeout
+        CompletableFuture<Boolean> queued = hashingExecutor.submit(() -> queuedTaskRan.getAndSet(true));
+
+        // Then the caller gets a capacity error
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(LoginCapacityExceededException.class);
+
+        // And its queue slot is free again while the thread is still busy
+        CompletableFuture<Boolean> next = hashingExecutor.submit(() -> true);
+
+        // And the timed out login does not run once the thread frees up
+        release.countDown();
+        blocker.exceptionally(e -> false).get(1, TimeUnit.SECONDS);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedTaskRan).isFalse();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
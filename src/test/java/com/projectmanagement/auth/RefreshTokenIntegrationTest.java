@@ -2,6 +2,7 @@ package com.projectmanagement.auth;
 
 import com.projectmanagement.auth.dto.LoginResponse;
 import com.projectmanagement.auth.dto.RefreshTokenResponse;
+import com.projectmanagement.auth.dto.SessionResponse;
 import com.projectmanagement.config.JwtProperties;
 import com.projectmanagement.exception.dto.ErrorResponse;
 import com.projectmanagement.user.UserRepository;
@@ -16,11 +17,16 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
 import static com.projectmanagement.auth.TestDataConstants.ApiEndpoints;
 import static com.projectmanagement.auth.TestDataConstants.TestData;
 import static com.projectmanagement.auth.TestDataConstants.TestUsers;
@@ -62,8 +68,7 @@ class RefreshTokenIntegrationTest {
         String originalRefreshToken = loginResponse.refreshToken();
 
         // Verify original refresh token is stored in Redis
-        String originalJti = JwtTestUtils.extractJtiFromRefreshToken(originalRefreshToken, jwtProperties);
-        assertThat(JwtTestUtils.isRefreshTokenInRedis(redisTemplate, originalJti))
+        assertThat(JwtTestUtils.isRefreshTokenInRedis(redisTemplate, jwtProperties, originalRefreshToken))
                 .as("Original refresh token should be stored in Redis")
                 .isTrue();
 
@@ -130,6 +135,25 @@ class RefreshTokenIntegrationTest {
                 .isTrue();
     }
 
+    @Test
+    @DisplayName("Given the same refresh token is used concurrently, when both requests race, then only one rotation should succeed")
+    void givenSameRefreshToken_whenUsedConcurrently_thenOnlyOneRotationSucceeds() {
+        // Given a valid refresh token
+        LoginResponse loginResponse = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.DEVELOPER_EMAIL, TestUsers.DEVELOPER_PASSWORD);
+        String refreshToken = loginResponse.refreshToken();
+
+        // When the token is used by several requests at the same time
+        List<CompletableFuture<HttpStatusCode>> attempts = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                        AuthTestUtils.refreshTokenExpectingError(restTemplate, refreshToken).getStatusCode()))
+                .toList();
+        List<HttpStatusCode> statuses = attempts.stream().map(CompletableFuture::join).toList();
+
+        // Then exactly one request should obtain a new token pair
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.OK)).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.UNAUTHORIZED)).hasSize(3);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {TestData.EMPTY_TOKEN, TestData.BLANK_TOKEN})
     @DisplayName("Given blank refresh token, when try to refresh, then should get validation error")
@@ -165,10 +189,9 @@ class RefreshTokenIntegrationTest {
         // For this test, we'll use a token that was valid but is now expired
         LoginResponse loginResponse = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.DEVELOPER_EMAIL, TestUsers.DEVELOPER_PASSWORD);
         String refreshToken = loginResponse.refreshToken();
-        String jti = JwtTestUtils.extractJtiFromRefreshToken(refreshToken, jwtProperties);
 
         // Manually remove the token from Redis to simulate expiration cleanup
-        redisTemplate.delete("refresh_token:" + jti);
+        JwtTestUtils.removeRefreshTokenFromRedis(redisTemplate, jwtProperties, refreshToken);
 
         // When expired refresh token is used
         ResponseEntity<ErrorResponse> response = AuthTestUtils.refreshTokenExpectingError(restTemplate, refreshToken);
@@ -180,8 +203,97 @@ class RefreshTokenIntegrationTest {
                 .contains("Invalid or expired refresh token");
 
         // And token should not be in Redis storage (simulating cleanup)
-        assertThat(JwtTestUtils.isRefreshTokenInRedis(redisTemplate, jti))
+        assertThat(JwtTestUtils.isRefreshTokenInRedis(redisTemplate, jwtProperties, refreshToken))
                 .as("Expired token should not be in Redis storage")
                 .isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Given user is logged in on two devices, when one session is revoked, then only that session's refresh token should be rejected")
+    void givenLoggedInOnTwoDevices_whenOneSessionRevoked_thenOnlyThatRefreshTokenShouldBeRejected() {
+        // Given user is logged in on two devices
+        LoginResponse firstSession = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.DEVELOPER_EMAIL, TestUsers.DEVELOPER_PASSWORD);
+        LoginResponse secondSession = AuthTestUtils.loginAndGetTokens(restTemplate, TestUsers.DEVELOPER_EMAIL, TestUsers.DEVELOPER_PASSWORD);
+
+        // Then both sessions should be listed
+        ResponseEntity<SessionResponse[]> sessions = AuthTestUtils.listSessions(restTemplate, firstSession.accessToken());
+        assertThat(sessions.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(sessions.getBody())
+                .extracting(SessionResponse::id)
+                .containsExactlyInAnyOrder(
+                        JwtTestUtils.extractJtiFromRefreshToken(firstSession.refreshToken(), jwtProperties),
+                        JwtTestUtils.extractJtiFromRefreshToken(secondSession.refreshToken(), jwtProperties));
+        assertThat(sessions.getBody())
+                .extracting(SessionResponse::expiresAt)
+                .containsExactlyInAnyOrder(
+                        JwtTestUtils.extractExpirationFromRefreshToken(firstSession.refreshToken(), jwtProperties),
+                        JwtTestUtils.extractExpirationFromRefreshToken(secondSession.refreshToken(), jwtProperties));
+
+        // When the second session is revoked from the first device
+        String secondSessionId = JwtTestUtils.extractJtiFromRefreshToken(secondSession.refreshToken(), jwtProperties);
+        ResponseEntity<Void> revokeResponse = AuthTestUtils.revokeSession(restTemplate, firstSession.accessToken(), secondSessionId);
+        assertThat(revokeResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        // Then the second session's refresh token should be rejected
+        assertThat(AuthTestUtils.refreshTokenExpectingError(restTemplate, secondSession.refreshToken()).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        // And the first session's refresh token should still work
+        assertThat(AuthTestUtils.refreshToken(restTemplate, firstSession.refreshToken()).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        // And revoking the same session again should report it as missing
+        assertThat(AuthTestUtils.revokeSession(restTemplate, firstSession.accessToken(), secondSessionId).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Given a refresh token issued before the per-user index, when it is used, then it is rotated into the index exactly once")
+    void givenLegacyRefreshToken_whenRefreshed_thenRotatedIntoIndexOnce() {
+        // Given
+        String legacyToken = issueLegacyDeveloperRefreshToken();
+        String legacyJti = JwtTestUtils.extractJtiFromRefreshToken(legacyToken, jwtProperties);
+
+        // When
+        ResponseEntity<RefreshTokenResponse> refreshResponse = AuthTestUtils.refreshToken(restTemplate, legacyToken);
+
+        // Then the new refresh token lives in the user's index and the legacy key is gone
+        assertThat(refreshResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(refreshResponse.getBody()).isNotNull();
+        assertThat(JwtTestUtils.isRefreshTokenInRedis(redisTemplate, jwtProperties, refreshResponse.getBody().refreshToken()))
+                .isTrue();
+        assertThat(JwtTestUtils.hasRedisKey(redisTemplate, JwtTestUtils.legacyRefreshTokenKey(legacyJti))).isFalse();
+        assertThat(JwtTestUtils.isRefreshTokenBlacklisted(redisTemplate, legacyJti)).isTrue();
+
+        // And the legacy token cannot be used a second time
+        assertThat(AuthTestUtils.refreshTokenExpectingError(restTemplate, legacyToken).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(AuthTestUtils.refreshToken(restTemplate, refreshResponse.getBody().refreshToken()).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Given a legacy refresh token, when its key is missing or the user logged out everywhere, then it is rejected")
+    void givenLegacyRefreshToken_whenUnknownOrRevoked_thenRejected() {
+        // Given a legacy token whose stored key is gone
+        String unknownToken = issueLegacyDeveloperRefreshToken();
+        redisTemplate.delete(JwtTestUtils.legacyRefreshTokenKey(
+                JwtTestUtils.extractJtiFromRefreshToken(unknownToken, jwtProperties)));
+
+        // And a legacy token issued before a logout from all devices
+        String revokedToken = issueLegacyDeveloperRefreshToken();
+        String accessToken = AuthTestUtils.getDeveloperToken(restTemplate);
+        assertThat(AuthTestUtils.logoutAllWithToken(restTemplate, accessToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        // When / Then
+        assertThat(AuthTestUtils.refreshTokenExpectingError(restTemplate, unknownToken).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(AuthTestUtils.refreshTokenExpectingError(restTemplate, revokedToken).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private String issueLegacyDeveloperRefreshToken() {
+        return JwtTestUtils.issueLegacyRefreshToken(redisTemplate, jwtProperties,
+                TestUsers.DEVELOPER_EMAIL, TestUsers.DEVELOPER_USERNAME, TestUsers.DEVELOPER_ROLE.name());
+    }
+}
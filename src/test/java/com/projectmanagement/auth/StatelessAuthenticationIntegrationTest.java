@@ -0,0 +1,169 @@
+package com.projectmanagement.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.config.JwtProperties;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.user.User;
+import com.projectmanagement.user.UserRepository;
+import com.projectmanagement.user.UserTestUtils;
+import com.projectmanagement.user.dto.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Stateless Authentication")
+class StatelessAuthenticationIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private boolean originalStatelessAuthentication;
+
+    @BeforeEach
+    void setUp() {
+        originalStatelessAuthentication = jwtProperties.isStatelessAuthentication();
+        jwtProperties.setStatelessAuthentication(true);
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwtProperties.setStatelessAuthentication(originalStatelessAuthentication);
+    }
+
+    @Test
+    @DisplayName("Given a token with a uid claim, when authenticating, then the request is authenticated from the claims without loading the user")
+    void givenTokenWithUid_whenAuthenticating_thenAuthenticatedFromClaims() {
+        // Given
+        String token = AuthTestUtils.getDeveloperToken(restTemplate);
+        userRepository.delete(userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow());
+
+        // When
+        ResponseEntity<JsonNode> stateless = ProjectTestUtils.get(restTemplate, token, "");
+        jwtProperties.setStatelessAuthentication(false);
+        ResponseEntity<JsonNode> stateful = ProjectTestUtils.get(restTemplate, token, "");
+
+        // Then only the stateful mode needed the user row
+        assertThat(stateless.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stateless.getBody().get("content")).isEmpty();
+        assertThat(stateful.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Given a token with a uid claim, when an admin disables its user, then the token is rejected")
+    void givenTokenWithUid_whenUserIsDisabled_thenRejected() {
+        // Given
+        String token = AuthTestUtils.getDeveloperToken(restTemplate);
+        assertThat(ProjectTestUtils.get(restTemplate, token, "").getStatusCode()).isEqualTo(HttpStatus.OK);
+        UUID developerId = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId();
+
+        // When
+        ResponseEntity<Void> disabled = UserTestUtils.disableUser(restTemplate,
+                AuthTestUtils.getAdminToken(restTemplate), developerId);
+
+        // Then
+        assertThat(disabled.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(ProjectTestUtils.get(restTemplate, token, "").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Given a non-admin, when disabling a user, then should return forbidden")
+    void givenNonAdmin_whenDisablingUser_thenForbidden() {
+        // Given
+        UUID developerId = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId();
+
+        // When
+        ResponseEntity<Void> response = UserTestUtils.disableUser(restTemplate,
+                AuthTestUtils.getManagerToken(restTemplate), developerId);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(userRepository.findById(developerId).orElseThrow().getEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given a token whose enabled claim is false, when authenticating, then it is rejected without a user lookup")
+    void givenDisabledClaim_whenAuthenticating_thenRejected() {
+        // Given
+        User developer = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow();
+        String token = jwtService.generateToken(Map.of(
+                "role", TestUsers.DEVELOPER_ROLE.name(),
+                "username", TestUsers.DEVELOPER_USERNAME,
+                "uid", developer.getId().toString(),
+                "enabled", false), TestUsers.DEVELOPER_EMAIL);
+
+        // When
+        ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, token, "");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Given a token without a uid claim, when authenticating, then the user is loaded by email")
+    void givenTokenWithoutUid_whenAuthenticating_thenUserIsLoadedByEmail() {
+        // Given
+        String token = jwtService.generateToken(Map.of(
+                "role", TestUsers.MANAGER_ROLE.name(),
+                "username", TestUsers.MANAGER_USERNAME), TestUsers.MANAGER_EMAIL);
+
+        // When
+        ResponseEntity<UserResponse> response = UserTestUtils.getCurrentUser(restTemplate, token);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().id())
+                .isEqualTo(userRepository.findByEmail(TestUsers.MANAGER_EMAIL).orElseThrow().getId());
+
+        // And the same token is rejected once there is no user to load
+        userRepository.delete(userRepository.findByEmail(TestUsers.MANAGER_EMAIL).orElseThrow());
+        assertThat(ProjectTestUtils.get(restTemplate, token, "").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Given a logout from all devices, when a token issued before it is used, then it is rejected without a user lookup")
+    void givenLogoutAll_whenEarlierTokenIsUsed_thenRejected() {
+        // Given
+        String token = AuthTestUtils.getDeveloperToken(restTemplate);
+        assertThat(ProjectTestUtils.get(restTemplate, token, "").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        // When
+        ResponseEntity<Void> logoutAll = AuthTestUtils.logoutAllWithToken(restTemplate, token);
+
+        // Then
+        assertThat(logoutAll.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ProjectTestUtils.get(restTemplate, token, "").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        String newToken = AuthTestUtils.getDeveloperToken(restTemplate);
+        assertThat(ProjectTestUtils.get(restTemplate, newToken, "").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
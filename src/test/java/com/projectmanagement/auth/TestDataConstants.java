@@ -55,8 +55,10 @@ public final class TestDataConstants {
 
         public static final String LOGIN_URL = AUTH_BASE + "/login";
         public static final String LOGOUT_URL = AUTH_BASE + "/logout";
+        public static final String LOGOUT_ALL_URL = AUTH_BASE + "/logout-all";
         public static final String REGISTER_URL = AUTH_BASE + "/register";
         public static final String REFRESH_URL = AUTH_BASE + "/refresh";
+        public static final String SESSIONS_URL = AUTH_BASE + "/sessions";
 
         private ApiEndpoints() {
             // Utility class
@@ -0,0 +1,145 @@
+package com.projectmanagement.auth;
+
+import com.projectmanagement.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Token Revocation Synchronizer")
+class TokenRevocationSynchronizerTest {
+
+    private static final byte[] EVENTS_CHANNEL = "jwt:revocation:events".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT_CHANNEL = "jwt:local-cache:heartbeat".getBytes(StandardCharsets.UTF_8);
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private TokenStore tokenStore;
+
+    private JwtBlackListProperties properties;
+    private TokenRevocationService revocationService;
+    private TokenRevocationSynchronizer synchronizer;
+    private LocalCacheHealthMonitor monitor;
+    private final Map<Object, Object> storedWatermarks = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtBlackListProperties();
+        revocationService = new TokenRevocationService(properties, new JwtProperties(), tokenStore);
+        synchronizer = new TokenRevocationSynchronizer(properties, revocationService, redisTemplate, listenerContainer);
+        monitor = new LocalCacheHealthMonitor(properties, List.of(synchronizer), redisTemplate, listenerContainer);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.scan(anyString(), any(ScanOptions.class)))
+                .thenAnswer(invocation -> cursorOf(Map.copyOf(storedWatermarks)));
+        when(tokenStore.findRevocationWatermark(any(UUID.class)))
+                .thenAnswer(invocation -> {
+                    Object watermark = storedWatermarks.get(invocation.getArgument(0, UUID.class).toString());
+                    return watermark != null ? Long.parseLong(watermark.toString()) : 0L;
+                });
+    }
+
+    @Test
+    @DisplayName("Should stop trusting cached watermarks after a resubscription that may have dropped a revocation")
+    void given_droppedRevocation_when_channelResubscribed_then_watermarkIsReadFromRedis() {
+        // Given a synchronized node that never received another node's logout-all
+        monitor.synchronizeAll();
+        assertThat(revocationService.isAuthoritative()).isTrue();
+        Date issuedAt = new Date();
+        revokeInRedis(issuedAt.getTime() / 1000 + 1);
+        assertThat(revocationService.isRevoked(USER_ID, issuedAt)).isFalse();
+
+        // When the subscription is re-established after a connection loss
+        monitor.onChannelSubscribed(HEARTBEAT_CHANNEL, 1);
+
+        // Then lookups fall back to HGET and see the revocation
+        assertThat(revocationService.isAuthoritative()).isFalse();
+        assertThat(revocationService.isRevoked(USER_ID, issuedAt)).isTrue();
+        verify(tokenStore).findRevocationWatermark(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should resync the dropped revocation once heartbeats are heard again")
+    void given_staleWatermarks_when_heartbeatHeardAgain_then_watermarksAreResynced() {
+        // Given
+        monitor.synchronizeAll();
+        Date issuedAt = new Date();
+        revokeInRedis(issuedAt.getTime() / 1000 + 1);
+        monitor.onChannelSubscribed(HEARTBEAT_CHANNEL, 1);
+
+        // When
+        monitor.onMessage(new DefaultMessage(HEARTBEAT_CHANNEL,
+                LocalCacheHealthMonitor.HEARTBEAT_EVENT.getBytes(StandardCharsets.UTF_8)), null);
+        monitor.heartbeat();
+
+        // Then the cache is trusted again and already knows the revocation
+        assertThat(revocationService.isAuthoritative()).isTrue();
+        assertThat(revocationService.isRevoked(USER_ID, issuedAt)).isTrue();
+        verify(tokenStore, never()).findRevocationWatermark(USER_ID);
+        verify(hashOperations, times(2)).scan(anyString(), any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should apply revocations announced by other nodes")
+    void given_synchronizedWatermarks_when_revocationReceived_then_itIsApplied() {
+        // Given
+        synchronizer.synchronize();
+        Date issuedAt = new Date();
+
+        // When
+        synchronizer.onMessage(new DefaultMessage(EVENTS_CHANNEL,
+                (USER_ID + RedisTokenStore.REVOCATION_EVENT_SEPARATOR + (issuedAt.getTime() / 1000 + 1))
+                        .getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(revocationService.isRevoked(USER_ID, issuedAt)).isTrue();
+        verify(tokenStore, never()).findRevocationWatermark(USER_ID);
+    }
+
+    private void revokeInRedis(long watermark) {
+        storedWatermarks.put(USER_ID.toString(), Long.toString(watermark));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<Map.Entry<Object, Object>> cursorOf(Map<Object, Object> entries) {
+        Iterator<Map.Entry<Object, Object>> iterator = List.copyOf(entries.entrySet()).iterator();
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
@@ -0,0 +1,109 @@
+package com.projectmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.projectmanagement.project.dto.ProjectDetailResponse;
+import com.projectmanagement.project.dto.ProjectMemberResponse;
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.dto.TaskSliceResponse;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.dto.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Smile Redis Serializer")
+class SmileRedisSerializerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000);
+    private static final LocalDateTime UPDATED_AT = CREATED_AT.plusHours(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should round-trip a user response")
+    void given_userResponse_when_roundTripped_then_equalValueIsRead() {
+        // Given
+        SmileRedisSerializer<UserResponse> serializer = new SmileRedisSerializer<>(objectMapper, UserResponse.class);
+        UserResponse user = new UserResponse(UUID.randomUUID(), "dev", "dev@prjctmng.com", "DEVELOPER",
+                true, false, CREATED_AT, UPDATED_AT);
+
+        // When
+        byte[] bytes = serializer.serialize(user);
+
+        // Then
+        assertThat(serializer.deserialize(bytes)).isEqualTo(user);
+        assertThat(serializer.encodedSize(user)).isEqualTo(bytes.length);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a project detail with its members, summary and task slice")
+    void given_projectDetailResponse_when_roundTripped_then_equalValueIsRead() {
+        // Given
+        SmileRedisSerializer<ProjectDetailResponse> serializer =
+                new SmileRedisSerializer<>(objectMapper, ProjectDetailResponse.class);
+        UUID projectId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Task", null, TaskStatus.REVIEW, TaskPriority.HIGH,
+                projectId, ownerId, ownerId, CREATED_AT, UPDATED_AT);
+        ProjectDetailResponse detail = new ProjectDetailResponse(projectId, "Project", "Description", ownerId,
+                CREATED_AT, UPDATED_AT, 1,
+                List.of(new ProjectMemberResponse(ownerId, "owner", "owner@prjctmng.com", "OWNER", CREATED_AT)),
+                summary(projectId),
+                new TaskSliceResponse(List.of(task), 20, true, "next-cursor"));
+
+        // When
+        ProjectDetailResponse read = serializer.deserialize(serializer.serialize(detail));
+
+        // Then
+        assertThat(read).isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a task summary keyed by enums without writing class names")
+    void given_taskSummaryResponse_when_roundTripped_then_equalValueIsReadWithoutTypeInformation() {
+        // Given
+        SmileRedisSerializer<TaskSummaryResponse> serializer =
+                new SmileRedisSerializer<>(objectMapper, TaskSummaryResponse.class);
+        TaskSummaryResponse summary = summary(UUID.randomUUID());
+
+        // When
+        byte[] bytes = serializer.serialize(summary);
+
+        // Then
+        assertThat(serializer.deserialize(bytes)).isEqualTo(summary);
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).doesNotContain("com.projectmanagement");
+    }
+
+    @Test
+    @DisplayName("Should map null values and empty payloads to null")
+    void given_nullOrEmpty_when_serialized_then_nullIsReturned() {
+        // Given
+        SmileRedisSerializer<UserResponse> serializer = new SmileRedisSerializer<>(objectMapper, UserResponse.class);
+
+        // Then
+        assertThat(serializer.serialize(null)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.encodedSize(null)).isZero();
+    }
+
+    private static TaskSummaryResponse summary(UUID projectId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, 3L);
+        byStatus.put(TaskStatus.DONE, 1L);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, 4L);
+        return new TaskSummaryResponse(projectId, 4, byStatus, byPriority);
+    }
+}
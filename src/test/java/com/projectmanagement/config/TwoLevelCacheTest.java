@@ -0,0 +1,190 @@
+package com.projectmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Two Level Cache")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache remote;
+
+    private LocalCacheProperties properties;
+    private final List<CacheInvalidatedEvent> published = new ArrayList<>();
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LocalCacheProperties();
+        when(remote.getName()).thenReturn("things");
+        // Weigh values by their length so the byte bound is easy to reason about
+        cache = new TwoLevelCache(remote, properties, value -> ((String) value).length(), published::add);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from L1")
+    void given_remoteHit_when_readAgain_then_servedLocally() {
+        // Given
+        when(remote.get("k")).thenReturn(new SimpleValueWrapper("value"));
+
+        // When
+        cache.get("k");
+        Cache.ValueWrapper wrapper = cache.get("k");
+
+        // Then
+        assertThat(wrapper.get()).isEqualTo("value");
+        verify(remote, times(1)).get("k");
+        assertThat(cache.stats().localHits()).isEqualTo(1);
+        assertThat(cache.stats().localWeightBytes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not copy an L2 read into L1 when an invalidation raced with it")
+    void given_invalidationDuringRemoteRead_when_read_then_valueIsNotKeptLocally() {
+        // Given an eviction from another node lands while the L2 read is in flight
+        when(remote.get("k")).thenAnswer(invocation -> {
+            cache.evictLocal("k");
+            return new SimpleValueWrapper("stale");
+        });
+
+        // When
+        cache.get("k");
+
+        // Then the next read goes back to L2
+        assertThat(cache.stats().localEntries()).isZero();
+        cache.get("k");
+        verify(remote, times(2)).get("k");
+    }
+
+    @Test
+    @DisplayName("Should reload from L2 once the L1 entry has expired")
+    void given_expiredEntry_when_read_then_reloadedFromRemote() throws InterruptedException {
+        // Given
+        properties.setTtl(Duration.ofMillis(20));
+        when(remote.get("k")).thenReturn(new SimpleValueWrapper("value"));
+        cache.get("k");
+
+        // When
+        Thread.sleep(50);
+        cache.get("k");
+
+        // Then
+        verify(remote, times(2)).get("k");
+        assertThat(cache.stats().localEvictions()).isEqualTo(1);
+        assertThat(cache.stats().localEntries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entries once the weight bound is exceeded")
+    void given_weightBound_when_exceeded_then_leastRecentlyUsedIsEvicted() {
+        // Given
+        properties.setMaxWeightBytes(10);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        // When
+        cache.put("c", "cccc");
+
+        // Then
+        assertThat(cache.stats().localEntries()).isEqualTo(2);
+        assertThat(cache.stats().localWeightBytes()).isEqualTo(8);
+        assertThat(cache.stats().localEvictions()).isEqualTo(1);
+        cache.get("a");
+        cache.get("c");
+        assertThat(cache.stats().localHits()).isEqualTo(3);
+        verify(remote, never()).get("a");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entries once the entry bound is exceeded")
+    void given_entryBound_when_exceeded_then_leastRecentlyUsedIsEvicted() {
+        // Given
+        properties.setMaxEntries(2);
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.get("a");
+
+        // When
+        cache.put("c", "c");
+
+        // Then
+        assertThat(cache.stats().localEntries()).isEqualTo(2);
+        cache.get("b");
+        verify(remote).get("b");
+    }
+
+    @Test
+    @DisplayName("Should keep values heavier than the whole bound out of L1")
+    void given_oversizedValue_when_put_then_onlyStoredRemotely() {
+        // Given
+        properties.setMaxWeightBytes(3);
+
+        // When
+        cache.put("k", "too long");
+
+        // Then
+        verify(remote).put("k", "too long");
+        assertThat(cache.stats().localEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy and announce evictions")
+    void given_cachedValue_when_evicted_then_invalidationIsPublished() {
+        // Given
+        cache.put("k", "value");
+
+        // When
+        cache.evict("k");
+
+        // Then
+        verify(remote).evict("k");
+        assertThat(cache.stats().localEntries()).isZero();
+        assertThat(published).containsExactly(new CacheInvalidatedEvent("things", "k"));
+    }
+
+    @Test
+    @DisplayName("Should publish overall and per-tier counters as cache metrics")
+    void given_boundMetrics_when_readAndWritten_then_countersArePublished() {
+        // Given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new TwoLevelCacheMeterBinder(cache, Tags.of("cache.manager", "cacheManager")).bindTo(registry);
+        when(remote.get("k")).thenReturn(new SimpleValueWrapper("value"));
+
+        // When one L2 hit, one L1 hit, one miss on both levels and one put
+        cache.get("k");
+        cache.get("k");
+        cache.get("missing");
+        cache.put("p", "put");
+
+        // Then
+        assertThat(registry.get("cache.gets").tags("cache", "things", "result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tags("cache", "things", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.puts").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.tier.gets").tags("tier", "local", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.tier.gets").tags("tier", "local", "result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.tier.gets").tags("tier", "remote", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.tier.gets").tags("tier", "remote", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.tier.weight").gauge().value()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,182 @@
+package com.projectmanagement.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Project Detail")
+class ProjectDetailIntegrationTest {
+
+    private static final int TASK_PREVIEW_SIZE = 2;
+    private static final int MEMBER_PREVIEW_SIZE = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ProjectDetailProperties detailProperties;
+
+    private int originalTaskPreviewSize;
+    private int originalMemberPreviewSize;
+    private String managerToken;
+    private String developerToken;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        originalTaskPreviewSize = detailProperties.getTaskPreviewSize();
+        originalMemberPreviewSize = detailProperties.getMemberPreviewSize();
+        detailProperties.setTaskPreviewSize(TASK_PREVIEW_SIZE);
+        detailProperties.setMemberPreviewSize(MEMBER_PREVIEW_SIZE);
+
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        developerToken = AuthTestUtils.getDeveloperToken(restTemplate);
+        projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Detail project");
+    }
+
+    @AfterEach
+    void tearDown() {
+        detailProperties.setTaskPreviewSize(originalTaskPreviewSize);
+        detailProperties.setMemberPreviewSize(originalMemberPreviewSize);
+    }
+
+    @Test
+    @DisplayName("Given more tasks than the preview, when getting details, then only the newest tasks are embedded and the cursor continues the scroll")
+    void givenMoreTasksThanPreview_whenGettingDetails_thenNewestTasksAreEmbeddedWithCursor() {
+        // Given
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                    new CreateTaskRequest("Task " + i, null, null, i < 2 ? TaskStatus.DONE : TaskStatus.TODO, TaskPriority.HIGH)).toString());
+        }
+
+        // When
+        JsonNode detail = getDetail(managerToken);
+
+        // Then the preview holds the newest tasks and the summary still counts all of them
+        assertThat(ids(detail.get("tasks").get("content"))).containsExactly(created.get(4), created.get(3));
+        assertThat(detail.get("tasks").get("hasNext").asBoolean()).isTrue();
+        assertThat(detail.get("taskSummary").get("total").asLong()).isEqualTo(5);
+        assertThat(detail.get("taskSummary").get("byStatus").get("DONE").asLong()).isEqualTo(2);
+
+        // And the cursor picks up where the preview stopped
+        ResponseEntity<JsonNode> next = ProjectTestUtils.get(restTemplate, managerToken, "/" + projectId
+                + "/tasks/scroll?sort=createdAt,desc&size=10&cursor=" + detail.get("tasks").get("nextCursor").asText());
+        assertThat(next.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ids(next.getBody().get("content"))).containsExactly(created.get(2), created.get(1), created.get(0));
+        assertThat(next.getBody().get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Given more members than the preview, when getting details and members, then the detail is bounded and the members endpoint pages the rest")
+    void givenMoreMembersThanPreview_whenGettingDetailsAndMembers_thenRestIsPaged() {
+        // Given the owner plus two added members
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, userId(TestUsers.DEVELOPER_EMAIL), ProjectMemberRole.MEMBER);
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, userId(TestUsers.ADMIN_EMAIL), ProjectMemberRole.MANAGER);
+
+        // When
+        JsonNode detail = getDetail(developerToken);
+        ResponseEntity<JsonNode> lastPage = ProjectTestUtils.get(restTemplate, developerToken,
+                "/" + projectId + "/members?size=2&page=1&sort=email,desc");
+
+        // Then members are listed in join order, whatever sort the client asks for
+        assertThat(detail.get("memberCount").asLong()).isEqualTo(3);
+        assertThat(emails(detail.get("members"))).containsExactly(TestUsers.MANAGER_EMAIL, TestUsers.DEVELOPER_EMAIL);
+        assertThat(lastPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(emails(lastPage.getBody().get("content"))).containsExactly(TestUsers.ADMIN_EMAIL);
+        assertThat(lastPage.getBody().get("totalElements").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Given a cached detail, when tasks, members or the project change, then the next detail reflects the change")
+    void givenCachedDetail_whenProjectChanges_thenDetailIsRefreshed() {
+        // Given
+        assertThat(getDetail(managerToken).get("taskSummary").get("total").asLong()).isZero();
+
+        // When a task is created
+        UUID taskId = ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                new CreateTaskRequest("Fresh task", null, null, null, null));
+
+        // Then
+        JsonNode afterTask = getDetail(managerToken);
+        assertThat(afterTask.get("taskSummary").get("total").asLong()).isEqualTo(1);
+        assertThat(ids(afterTask.get("tasks").get("content"))).containsExactly(taskId.toString());
+
+        // When a member is added
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, userId(TestUsers.DEVELOPER_EMAIL), ProjectMemberRole.MEMBER);
+
+        // Then
+        assertThat(getDetail(managerToken).get("memberCount").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given a cached detail, when a non-member asks for it, then the membership check still applies")
+    void givenCachedDetail_whenNonMemberRequests_thenRejected() {
+        // Given
+        getDetail(managerToken);
+
+        // When
+        ResponseEntity<JsonNode> detail = ProjectTestUtils.get(restTemplate, developerToken, "/" + projectId);
+        ResponseEntity<JsonNode> members = ProjectTestUtils.get(restTemplate, developerToken, "/" + projectId + "/members");
+
+        // Then
+        assertThat(detail.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(members.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private JsonNode getDetail(String token) {
+        ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, token, "/" + projectId);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private UUID userId(String email) {
+        return userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    private static List<String> ids(JsonNode tasks) {
+        List<String> ids = new ArrayList<>();
+        tasks.forEach(task -> ids.add(task.get("id").asText()));
+        return ids;
+    }
+
+    private static List<String> emails(JsonNode members) {
+        List<String> emails = new ArrayList<>();
+        members.forEach(member -> emails.add(member.get("email").asText()));
+        return emails;
+    }
+}
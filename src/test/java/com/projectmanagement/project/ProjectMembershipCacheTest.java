@@ -0,0 +1,103 @@
+package com.projectmanagement.project;
+
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Project Membership Cache")
+class ProjectMembershipCacheTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private ProjectMembershipCacheProperties properties;
+    private ProjectMembershipCache membershipCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProjectMembershipCacheProperties();
+        membershipCache = new ProjectMembershipCache(properties, projectMemberRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void given_cachedRole_when_lookedUpAgain_then_repositoryIsQueriedOnce() {
+        // Given
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(PROJECT_ID, USER_ID))
+                .thenReturn(Optional.of(ProjectMemberRole.MEMBER));
+
+        // When
+        membershipCache.getRole(PROJECT_ID, USER_ID);
+        Optional<ProjectMemberRole> role = membershipCache.getRole(PROJECT_ID, USER_ID);
+
+        // Then
+        assertThat(role).contains(ProjectMemberRole.MEMBER);
+        verify(projectMemberRepository, times(1)).findRoleByProjectIdAndUserId(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should reload a role once its entry has expired, even without an invalidation")
+    void given_expiredEntry_when_lookedUp_then_roleIsReloaded() throws InterruptedException {
+        // Given a member whose removal was never announced to this node
+        properties.setTtl(Duration.ofMillis(50));
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(PROJECT_ID, USER_ID))
+                .thenReturn(Optional.of(ProjectMemberRole.MEMBER))
+                .thenReturn(Optional.empty());
+        assertThat(membershipCache.isMember(PROJECT_ID, USER_ID)).isTrue();
+
+        // When
+        Thread.sleep(100);
+
+        // Then
+        assertThat(membershipCache.isMember(PROJECT_ID, USER_ID)).isFalse();
+        verify(projectMemberRepository, times(2)).findRoleByProjectIdAndUserId(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should reload a role after it is evicted")
+    void given_cachedRole_when_evicted_then_roleIsReloaded() {
+        // Given
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(PROJECT_ID, USER_ID))
+                .thenReturn(Optional.of(ProjectMemberRole.OWNER))
+                .thenReturn(Optional.of(ProjectMemberRole.MEMBER));
+        membershipCache.getRole(PROJECT_ID, USER_ID);
+
+        // When
+        membershipCache.evict(PROJECT_ID, USER_ID);
+
+        // Then
+        assertThat(membershipCache.getRole(PROJECT_ID, USER_ID)).contains(ProjectMemberRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("Should stay within the entry bound")
+    void given_moreUsersThanMaxEntries_when_lookedUp_then_cacheStaysBounded() {
+        // Given
+        properties.setMaxEntries(10);
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(eq(PROJECT_ID), any()))
+                .thenReturn(Optional.of(ProjectMemberRole.MEMBER));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            membershipCache.getRole(PROJECT_ID, UUID.randomUUID());
+        }
+
+        // Then
+        assertThat(membershipCache.size()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,186 @@
+package com.projectmanagement.project;
+
+import com.projectmanagement.exception.ProjectNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Project Query Fan-Out")
+class ProjectQueryFanOutIntegrationTest {
+
+    @Autowired
+    private ProjectQueryFanOut queryFanOut;
+
+    @Autowired
+    private ProjectDetailProperties detailProperties;
+
+    private boolean originalFanOutEnabled;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        originalFanOutEnabled = detailProperties.isFanOutEnabled();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        detailProperties.setFanOutEnabled(originalFanOutEnabled);
+    }
+
+    @Test
+    @DisplayName("Given independent reads, when joined, then each ran in its own read-only transaction on a virtual thread")
+    void givenIndependentReads_whenJoined_thenEachRanOnAVirtualThreadInReadOnlyTransaction() {
+        // When
+        Supplier<String> first;
+        Supplier<String> second;
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            first = scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            second = scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            scope.join();
+        }
+
+        // Then
+        assertThat(first.get()).startsWith("project-query-").endsWith("read-only virtual");
+        assertThat(second.get()).startsWith("project-query-").endsWith("read-only virtual");
+        assertThat(first.get()).isNotEqualTo(second.get());
+    }
+
+    @Test
+    @DisplayName("Given more reads than the per-request budget, when forked, then the extra reads run on the caller")
+    void givenMoreReadsThanBudget_whenForked_thenExtraReadsRunOnCaller() {
+        // Given
+        int budget = detailProperties.getFanOutConnectionsPerRequest();
+
+        // When
+        Supplier<String> overBudget;
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            for (int i = 0; i < budget; i++) {
+                scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            }
+            overBudget = scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            scope.join();
+        }
+
+        // Then
+        assertThat(overBudget.get()).startsWith(Thread.currentThread().getName() + " read-only");
+    }
+
+    @Test
+    @DisplayName("Given fan-out is disabled, when forked, then every read runs on the caller")
+    void givenFanOutDisabled_whenForked_thenReadsRunOnCaller() {
+        // Given
+        detailProperties.setFanOutEnabled(false);
+
+        // When
+        Supplier<String> read;
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            read = scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            scope.join();
+        }
+
+        // Then
+        assertThat(read.get()).startsWith(Thread.currentThread().getName() + " read-only");
+    }
+
+    @Test
+    @DisplayName("Given one read fails while another is still running, when joined, then the original failure is thrown without waiting")
+    void givenFailingRead_whenJoined_thenOriginalFailureIsThrownWithoutWaiting() throws InterruptedException {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        AtomicBoolean slowReadFinished = new AtomicBoolean();
+
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            Supplier<String> slow = scope.fork(() -> {
+                awaitRelease();
+                slowReadFinished.set(true);
+                return "slow";
+            });
+            scope.fork(() -> {
+                throw new ProjectNotFoundException(projectId);
+            });
+
+            // When / Then the failure surfaces unwrapped while the slow read is still blocked
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(ProjectNotFoundException.class)
+                    .hasMessageContaining(projectId.toString());
+            assertThat(slowReadFinished).isFalse();
+            assertThatThrownBy(slow::get).isInstanceOf(CancellationException.class);
+        }
+
+        // The read already running still finishes in the background and gives its connection back
+        release.countDown();
+        awaitFinished(slowReadFinished);
+    }
+
+    @Test
+    @DisplayName("Given many failed scopes, when forking again, then the connection budget has been returned")
+    void givenManyFailedScopes_whenForkingAgain_thenBudgetWasReturned() {
+        // Given more failures than the global connection budget
+        for (int i = 0; i < detailProperties.getFanOutMaxConnections() * 2; i++) {
+            try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+                // A read over the budget runs inline and fails from fork itself
+                assertThatThrownBy(() -> {
+                    scope.fork(() -> {
+                        throw new IllegalStateException("read failed");
+                    });
+                    scope.join();
+                }).isInstanceOf(IllegalStateException.class);
+            }
+        }
+
+        // When
+        Supplier<String> read;
+        try (ProjectQueryFanOut.Scope scope = queryFanOut.open()) {
+            read = scope.fork(ProjectQueryFanOutIntegrationTest::describeThread);
+            scope.join();
+        }
+
+        // Then the read still gets a virtual thread
+        assertThat(read.get()).startsWith("project-query-");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitFinished(AtomicBoolean finished) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!finished.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(finished).isTrue();
+        // The permit is released right after the read returns
+        Thread.sleep(50);
+    }
+
+    private static String describeThread() {
+        Thread thread = Thread.currentThread();
+        return thread.getName()
+                + (TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? " read-only" : " read-write")
+                + (thread.isVirtual() ? " virtual" : " platform");
+    }
+}
@@ -0,0 +1,18 @@
+package com.projectmanagement.project;
+
+public final class ProjectTestConstants {
+
+    private ProjectTestConstants() {
+        // Utility class
+    }
+
+    public static final class ApiEndpoints {
+        private static final String BASE_URL = "http://localhost:8089";
+
+        public static final String PROJECTS_URL = BASE_URL + "/api/projects";
+
+        private ApiEndpoints() {
+            // Utility class
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.projectmanagement.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.dto.AddMemberRequest;
+import com.projectmanagement.project.dto.CreateProjectRequest;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+import static com.projectmanagement.project.ProjectTestConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ProjectTestUtils {
+
+    private ProjectTestUtils() {
+        // Utility class
+    }
+
+    public static UUID createProject(TestRestTemplate restTemplate, String authToken, String name) {
+        ResponseEntity<Void> response = restTemplate.exchange(
+                ApiEndpoints.PROJECTS_URL,
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateProjectRequest(name, null), AuthTestUtils.createAuthHeaders(authToken)),
+                Void.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return idFromLocation(response.getHeaders().getLocation());
+    }
+
+    public static void addMember(TestRestTemplate restTemplate, String authToken, UUID projectId,
+                                 UUID userId, ProjectMemberRole role) {
+        ResponseEntity<Void> response = restTemplate.exchange(
+                ApiEndpoints.PROJECTS_URL + "/" + projectId + "/members",
+                HttpMethod.PATCH,
+                new HttpEntity<>(new AddMemberRequest(userId, role), AuthTestUtils.createAuthHeaders(authToken)),
+                Void.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    public static UUID createTask(TestRestTemplate restTemplate, String authToken, UUID projectId,
+                                  CreateTaskRequest request) {
+        ResponseEntity<Void> response = restTemplate.exchange(
+                ApiEndpoints.PROJECTS_URL + "/" + projectId + "/tasks",
+                HttpMethod.POST,
+                new HttpEntity<>(request, AuthTestUtils.createAuthHeaders(authToken)),
+                Void.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return idFromLocation(response.getHeaders().getLocation());
+    }
+
+    // Paths are relative to /api/projects; the raw tree keeps Page and Slice envelopes readable
+    public static ResponseEntity<JsonNode> get(TestRestTemplate restTemplate, String authToken, String path) {
+        return restTemplate.exchange(
+                URI.create(ApiEndpoints.PROJECTS_URL + path),
+                HttpMethod.GET,
+                new HttpEntity<>(AuthTestUtils.createAuthHeaders(authToken)),
+                JsonNode.class
+        );
+    }
+
+    private static UUID idFromLocation(URI location) {
+        assertThat(location).isNotNull();
+        String path = location.getPath();
+        return UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+    }
+}
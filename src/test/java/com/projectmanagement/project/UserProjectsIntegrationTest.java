@@ -0,0 +1,142 @@
+package com.projectmanagement.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("User Projects")
+class UserProjectsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String managerToken;
+    private String developerToken;
+    private UUID alphaId;
+    private UUID betaId;
+
+    @BeforeEach
+    void setUp() {
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        developerToken = AuthTestUtils.getDeveloperToken(restTemplate);
+
+        // Alpha has two members and two open tasks out of three; Beta has only its owner and no tasks
+        alphaId = ProjectTestUtils.createProject(restTemplate, managerToken, "Alpha");
+        betaId = ProjectTestUtils.createProject(restTemplate, managerToken, "Beta");
+        ProjectTestUtils.addMember(restTemplate, managerToken, alphaId,
+                userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId(), ProjectMemberRole.MEMBER);
+        for (TaskStatus status : new TaskStatus[]{TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE}) {
+            ProjectTestUtils.createTask(restTemplate, managerToken, alphaId,
+                    new CreateTaskRequest(status.name(), null, null, status, null));
+        }
+    }
+
+    @Test
+    @DisplayName("Given projects with members and tasks, when listing them, then member and open task counts are included")
+    void givenProjectsWithMembersAndTasks_whenListing_thenCountsAreIncluded() {
+        // When
+        JsonNode projects = list(managerToken, "?sort=name").get("content");
+
+        // Then
+        assertThat(projects).hasSize(2);
+        assertProject(projects.get(0), alphaId, "OWNER", 2, 2);
+        assertProject(projects.get(1), betaId, "OWNER", 1, 0);
+    }
+
+    @Test
+    @DisplayName("Given a member of one project, when listing, then only that project is returned with the member's role")
+    void givenMemberOfOneProject_whenListing_thenOnlyThatProjectIsReturned() {
+        // When
+        JsonNode projects = list(developerToken, "").get("content");
+
+        // Then
+        assertThat(projects).hasSize(1);
+        assertProject(projects.get(0), alphaId, "MEMBER", 2, 2);
+    }
+
+    @Test
+    @DisplayName("Given tasks that are closed, when listing, then the open task count follows the task counters")
+    void givenClosedTasks_whenListing_thenOpenTaskCountDrops() {
+        // Given
+        ProjectTestUtils.createTask(restTemplate, managerToken, betaId,
+                new CreateTaskRequest("Already done", null, null, TaskStatus.DONE, null));
+        ProjectTestUtils.createTask(restTemplate, managerToken, betaId,
+                new CreateTaskRequest("In review", null, null, TaskStatus.REVIEW, null));
+
+        // When
+        JsonNode projects = list(managerToken, "?sort=name").get("content");
+
+        // Then
+        assertThat(projects.get(1).get("openTaskCount").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given page mode, when listing, then totals are reported")
+    void givenPageMode_whenListing_thenTotalsAreReported() {
+        // When
+        JsonNode page = list(managerToken, "?size=1&sort=name");
+
+        // Then
+        assertThat(page.get("content")).hasSize(1);
+        assertThat(page.get("totalElements").asLong()).isEqualTo(2);
+        assertThat(page.get("totalPages").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given slice mode, when listing, then no totals are reported and the last slice is flagged")
+    void givenSliceMode_whenListing_thenOnlyNextPageIsKnown() {
+        // When
+        JsonNode first = list(managerToken, "?size=1&sort=name&withCount=false");
+        JsonNode second = list(managerToken, "?size=1&page=1&sort=name&withCount=false");
+
+        // Then
+        assertThat(first.has("totalElements")).isFalse();
+        assertThat(first.get("last").asBoolean()).isFalse();
+        assertProject(first.get("content").get(0), alphaId, "OWNER", 2, 2);
+        assertThat(second.get("last").asBoolean()).isTrue();
+        assertProject(second.get("content").get(0), betaId, "OWNER", 1, 0);
+    }
+
+    private JsonNode list(String token, String query) {
+        ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, token, query);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private static void assertProject(JsonNode project, UUID id, String role, long memberCount, long openTaskCount) {
+        assertThat(project.get("id").asText()).isEqualTo(id.toString());
+        assertThat(project.get("role").asText()).isEqualTo(role);
+        assertThat(project.get("memberCount").asLong()).isEqualTo(memberCount);
+        assertThat(project.get("openTaskCount").asLong()).isEqualTo(openTaskCount);
+    }
+}
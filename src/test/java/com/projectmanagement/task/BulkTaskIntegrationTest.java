@@ -0,0 +1,385 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.auth.CustomUserDetails;
+import com.projectmanagement.project.ProjectTestConstants.ApiEndpoints;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.BulkCreateTaskRequest;
+import com.projectmanagement.task.dto.BulkTaskFilter;
+import com.projectmanagement.task.dto.BulkTaskResponse;
+import com.projectmanagement.task.dto.BulkUpdateTaskRequest;
+import com.projectmanagement.task.dto.BulkUpdateTaskResponse;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.enums.TaskChangeType;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.User;
+import com.projectmanagement.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@RecordApplicationEvents
+@DisplayName("Bulk Task Operations")
+class BulkTaskIntegrationTest {
+
+    private static final int FLUSH_SIZE = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskBatchProperties batchProperties;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private int originalFlushSize;
+    private String managerToken;
+    private UUID managerId;
+    private UUID developerId;
+    private UUID adminId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        originalFlushSize = batchProperties.getFlushSize();
+        batchProperties.setFlushSize(FLUSH_SIZE);
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        managerId = userRepository.findByEmail(TestUsers.MANAGER_EMAIL).orElseThrow().getId();
+        developerId = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId();
+        adminId = userRepository.findByEmail(TestUsers.ADMIN_EMAIL).orElseThrow().getId();
+        projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Bulk project");
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, developerId, ProjectMemberRole.MEMBER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchProperties.setFlushSize(originalFlushSize);
+    }
+
+    @Test
+    @DisplayName("Given tasks spanning several flush batches, when bulk created, then every accepted task is stored and counted")
+    void givenSeveralBatches_whenBulkCreated_thenAcceptedTasksAreStoredAndCounted() {
+        // Given one task per assignee kind and enough tasks for three flush batches
+        List<CreateTaskRequest> tasks = List.of(
+                new CreateTaskRequest("Unassigned", null, null, TaskStatus.TODO, TaskPriority.HIGH),
+                new CreateTaskRequest("Self", null, managerId, TaskStatus.DONE, TaskPriority.LOW),
+                new CreateTaskRequest("Member", null, developerId, TaskStatus.TODO, TaskPriority.LOW),
+                new CreateTaskRequest("Outsider", null, adminId, TaskStatus.REVIEW, TaskPriority.CRITICAL),
+                new CreateTaskRequest("Defaults", null, null, null, null));
+
+        // When
+        ResponseEntity<BulkTaskResponse> response = bulkCreate(managerToken, tasks);
+
+        // Then only the task assigned to a non-member is rejected, at its own index
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        BulkTaskResponse body = response.getBody();
+        assertThat(body.succeeded()).isEqualTo(4);
+        assertThat(body.failed()).isEqualTo(1);
+        assertThat(body.results()).extracting("index").containsExactly(0, 1, 2, 3, 4);
+        assertThat(body.results()).extracting("success").containsExactly(true, true, true, false, true);
+        assertThat(body.results().get(3).id()).isNull();
+        assertThat(body.results().get(3).error()).isEqualTo("User " + adminId + " must be a member of the project");
+
+        // And the stored tasks carry the resolved assignees
+        assertThat(taskRepository.findById(body.results().get(0).id()).orElseThrow().getAssignedUserId()).isEqualTo(managerId);
+        assertThat(taskRepository.findById(body.results().get(2).id()).orElseThrow().getAssignedUserId()).isEqualTo(developerId);
+        assertThat(projectTaskCount()).isEqualTo(4);
+
+        // And the counters were incremented for the accepted tasks only
+        JsonNode summary = ProjectTestUtils.get(restTemplate, managerToken, "/" + projectId + "/tasks/summary").getBody();
+        assertThat(summary.get("total").asLong()).isEqualTo(4);
+        assertThat(summary.get("byStatus").get("TODO").asLong()).isEqualTo(3);
+        assertThat(summary.get("byStatus").get("DONE").asLong()).isEqualTo(1);
+        assertThat(summary.get("byStatus").get("REVIEW").asLong()).isZero();
+        assertThat(summary.get("byPriority").get("LOW").asLong()).isEqualTo(3);
+        assertThat(summary.get("byPriority").get("CRITICAL").asLong()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given accepted and rejected tasks, when bulk created, then one BULK_CREATED event lists the accepted ids")
+    void givenAcceptedAndRejectedTasks_whenBulkCreated_thenOneEventListsAcceptedIds() {
+        // Given
+        List<CreateTaskRequest> tasks = List.of(
+                new CreateTaskRequest("First", null, null, null, null),
+                new CreateTaskRequest("Outsider", null, adminId, null, null),
+                new CreateTaskRequest("Second", null, developerId, null, null));
+
+        // When
+        BulkTaskResponse response = taskService.createTasks(new BulkCreateTaskRequest(tasks), projectId, authenticationOf(managerId));
+
+        // Then
+        List<TaskChangedEvent> events = applicationEvents.stream(TaskChangedEvent.class).toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.getFirst().type()).isEqualTo(TaskChangeType.BULK_CREATED);
+        assertThat(events.getFirst().projectId()).isEqualTo(projectId);
+        assertThat(events.getFirst().task()).isNull();
+        assertThat(events.getFirst().taskIds()).containsExactly(
+                response.results().get(0).id(), response.results().get(2).id());
+    }
+
+    @Test
+    @DisplayName("Given only rejected tasks, when bulk created, then nothing is stored and no event is published")
+    void givenOnlyRejectedTasks_whenBulkCreated_thenNothingIsStoredOrPublished() {
+        // Given
+        List<CreateTaskRequest> tasks = List.of(new CreateTaskRequest("Outsider", null, adminId, null, null));
+
+        // When
+        BulkTaskResponse response = taskService.createTasks(new BulkCreateTaskRequest(tasks), projectId, authenticationOf(managerId));
+
+        // Then
+        assertThat(response.succeeded()).isZero();
+        assertThat(projectTaskCount()).isZero();
+        assertThat(applicationEvents.stream(TaskChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a flush size, when bulk creating, then the persistence context is flushed once per batch")
+    void givenFlushSize_whenBulkCreating_thenFlushedOncePerBatch() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // When the same five tasks are written in one batch and in batches of two
+            batchProperties.setFlushSize(100);
+            long singleBatchFlushes = flushesFor(statistics, 5);
+            batchProperties.setFlushSize(FLUSH_SIZE);
+            long smallBatchFlushes = flushesFor(statistics, 5);
+
+            // Then batches of two add the flushes after the second and fourth task
+            assertThat(smallBatchFlushes - singleBatchFlushes).isEqualTo(2);
+            assertThat(projectTaskCount()).isEqualTo(10);
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    @Test
+    @DisplayName("Given a caller outside the project, when bulk creating, then should return bad request")
+    void givenNonMemberCaller_whenBulkCreating_thenBadRequest() {
+        // When
+        ResponseEntity<BulkTaskResponse> response = bulkCreate(AuthTestUtils.getAdminToken(restTemplate),
+                List.of(new CreateTaskRequest("Intruder", null, null, null, null)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(projectTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given ids of this project, another project and no task, when bulk updated, then only this project's tasks change and are announced")
+    void givenMixedTaskIds_whenBulkUpdated_thenOnlyProjectTasksChangeAndAreAnnounced() {
+        // Given
+        UUID first = createTask("First", null, TaskStatus.TODO, TaskPriority.LOW);
+        UUID second = createTask("Second", developerId, TaskStatus.TODO, TaskPriority.HIGH);
+        UUID untouched = createTask("Untouched", null, TaskStatus.TODO, TaskPriority.LOW);
+        UUID otherProjectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Other project");
+        UUID foreign = ProjectTestUtils.createTask(restTemplate, managerToken, otherProjectId,
+                new CreateTaskRequest("Foreign", null, null, TaskStatus.TODO, TaskPriority.LOW));
+        applicationEvents.clear();
+
+        // When
+        BulkUpdateTaskResponse response = taskService.updateTasks(new BulkUpdateTaskRequest(
+                List.of(first, second, foreign, UUID.randomUUID()), null, TaskStatus.DONE, TaskPriority.CRITICAL, null, false),
+                projectId, authenticationOf(managerId));
+
+        // Then
+        assertThat(response.updated()).isEqualTo(2);
+        Task updated = taskRepository.findById(second).orElseThrow();
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(updated.getPriority()).isEqualTo(TaskPriority.CRITICAL);
+        assertThat(updated.getAssignedUserId()).isEqualTo(developerId);
+        assertThat(taskRepository.findById(untouched).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(taskRepository.findById(foreign).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+
+        // And the event names exactly the updated tasks
+        List<TaskChangedEvent> events = applicationEvents.stream(TaskChangedEvent.class).toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.getFirst().type()).isEqualTo(TaskChangeType.BULK_UPDATED);
+        assertThat(events.getFirst().taskIds()).containsExactlyInAnyOrder(first, second);
+
+        // And the counters follow the moved tasks
+        JsonNode summary = ProjectTestUtils.get(restTemplate, managerToken, "/" + projectId + "/tasks/summary").getBody();
+        assertThat(summary.get("total").asLong()).isEqualTo(3);
+        assertThat(summary.get("byStatus").get("TODO").asLong()).isEqualTo(1);
+        assertThat(summary.get("byStatus").get("DONE").asLong()).isEqualTo(2);
+        assertThat(summary.get("byPriority").get("CRITICAL").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given ids of no task in the project, when bulk updated, then nothing changes and no event is published")
+    void givenNoMatchingTaskIds_whenBulkUpdated_thenNothingIsPublished() {
+        // When
+        BulkUpdateTaskResponse response = taskService.updateTasks(new BulkUpdateTaskRequest(
+                List.of(UUID.randomUUID()), null, TaskStatus.DONE, null, null, false),
+                projectId, authenticationOf(managerId));
+
+        // Then
+        assertThat(response.updated()).isZero();
+        assertThat(applicationEvents.stream(TaskChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a filter, when bulk updated, then the matching tasks change and the change is announced project-wide")
+    void givenFilter_whenBulkUpdated_thenMatchingTasksChangeAndProjectIsAnnounced() {
+        // Given
+        UUID matching = createTask("Matching", developerId, TaskStatus.TODO, TaskPriority.HIGH);
+        UUID otherAssignee = createTask("Other assignee", null, TaskStatus.TODO, TaskPriority.HIGH);
+        UUID otherStatus = createTask("Other status", developerId, TaskStatus.REVIEW, TaskPriority.HIGH);
+        applicationEvents.clear();
+
+        // When
+        ResponseEntity<BulkUpdateTaskResponse> response = bulkUpdate(managerToken, new BulkUpdateTaskRequest(
+                null, new BulkTaskFilter(TaskStatus.TODO, null, developerId), TaskStatus.IN_PROGRESS, null, null, false));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().updated()).isEqualTo(1);
+        assertThat(taskRepository.findById(matching).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(taskRepository.findById(otherAssignee).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(taskRepository.findById(otherStatus).orElseThrow().getStatus()).isEqualTo(TaskStatus.REVIEW);
+        JsonNode summary = ProjectTestUtils.get(restTemplate, managerToken, "/" + projectId + "/tasks/summary").getBody();
+        assertThat(summary.get("byStatus").get("TODO").asLong()).isEqualTo(1);
+        assertThat(summary.get("byStatus").get("IN_PROGRESS").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given assigned tasks, when bulk updated with unassign or without an assignee, then only unassign clears the assignee")
+    void givenAssignedTasks_whenBulkUpdated_thenOnlyUnassignClearsAssignee() {
+        // Given
+        UUID kept = createTask("Kept", developerId, TaskStatus.TODO, TaskPriority.LOW);
+        UUID cleared = createTask("Cleared", developerId, TaskStatus.TODO, TaskPriority.LOW);
+
+        // When
+        ResponseEntity<BulkUpdateTaskResponse> priorityOnly = bulkUpdate(managerToken, new BulkUpdateTaskRequest(
+                List.of(kept), null, null, TaskPriority.HIGH, null, false));
+        ResponseEntity<BulkUpdateTaskResponse> unassign = bulkUpdate(managerToken, new BulkUpdateTaskRequest(
+                List.of(cleared), null, null, null, null, true));
+
+        // Then
+        assertThat(priorityOnly.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(unassign.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Task keptTask = taskRepository.findById(kept).orElseThrow();
+        assertThat(keptTask.getAssignedUserId()).isEqualTo(developerId);
+        assertThat(keptTask.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(taskRepository.findById(cleared).orElseThrow().getAssignedUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Given invalid selections or changes, when bulk updating, then should return bad request and change nothing")
+    void givenInvalidRequests_whenBulkUpdating_thenBadRequest() {
+        // Given
+        UUID taskId = createTask("Task", null, TaskStatus.TODO, TaskPriority.LOW);
+        BulkTaskFilter todo = new BulkTaskFilter(TaskStatus.TODO, null, null);
+        List<BulkUpdateTaskRequest> requests = List.of(
+                new BulkUpdateTaskRequest(null, null, TaskStatus.DONE, null, null, false),
+                new BulkUpdateTaskRequest(List.of(), new BulkTaskFilter(null, null, null), TaskStatus.DONE, null, null, false),
+                new BulkUpdateTaskRequest(List.of(taskId), todo, TaskStatus.DONE, null, null, false),
+                new BulkUpdateTaskRequest(List.of(taskId), null, null, null, null, false),
+                new BulkUpdateTaskRequest(List.of(taskId), null, null, null, developerId, true),
+                new BulkUpdateTaskRequest(null, todo, TaskStatus.DONE, null, adminId, false));
+
+        // When / Then
+        for (BulkUpdateTaskRequest request : requests) {
+            assertThat(bulkUpdate(managerToken, request).getStatusCode()).as(request.toString())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        assertThat(bulkUpdate(AuthTestUtils.getAdminToken(restTemplate),
+                new BulkUpdateTaskRequest(null, todo, TaskStatus.DONE, null, null, false)).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(taskRepository.findById(taskId).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+    }
+
+    private UUID createTask(String title, UUID assigneeId, TaskStatus status, TaskPriority priority) {
+        return ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                new CreateTaskRequest(title, null, assigneeId, status, priority));
+    }
+
+    private long flushesFor(Statistics statistics, int count) {
+        List<CreateTaskRequest> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new CreateTaskRequest("Task " + i, null, null, null, null));
+        }
+        long before = statistics.getFlushCount();
+        taskService.createTasks(new BulkCreateTaskRequest(tasks), projectId, authenticationOf(managerId));
+        return statistics.getFlushCount() - before;
+    }
+
+    private long projectTaskCount() {
+        return ProjectTestUtils.get(restTemplate, managerToken, "/" + projectId + "/tasks").getBody()
+                .get("totalElements").asLong();
+    }
+
+    private Authentication authenticationOf(UUID userId) {
+        User user = userRepository.findById(userId).orElseThrow();
+        CustomUserDetails principal = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private ResponseEntity<BulkUpdateTaskResponse> bulkUpdate(String token, BulkUpdateTaskRequest request) {
+        return restTemplate.exchange(
+                ApiEndpoints.PROJECTS_URL + "/" + projectId + "/tasks/bulk",
+                HttpMethod.PATCH,
+                new HttpEntity<>(request, AuthTestUtils.createAuthHeaders(token)),
+                BulkUpdateTaskResponse.class
+        );
+    }
+
+    private ResponseEntity<BulkTaskResponse> bulkCreate(String token, List<CreateTaskRequest> tasks) {
+        return restTemplate.exchange(
+                ApiEndpoints.PROJECTS_URL + "/" + projectId + "/tasks/bulk",
+                HttpMethod.POST,
+                new HttpEntity<>(new BulkCreateTaskRequest(tasks), AuthTestUtils.createAuthHeaders(token)),
+                BulkTaskResponse.class
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LIKE Task Search Engine")
+class LikeTaskSearchEngineTest {
+
+    private static final UUID CALLER_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private LikeTaskSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new LikeTaskSearchEngine(taskRepository, taskMapper, new TaskSearchProperties());
+    }
+
+    @Test
+    @DisplayName("Should HTML-escape task text around the highlight markers")
+    void given_taskTextWithMarkup_when_searching_then_onlyMarkersAreHtml() {
+        // Given
+        givenTasks(task("<img src=x onerror=alert(1)> Login", "Fix the <b>login</b> & \"session\" flow"));
+
+        // When
+        TaskSearchResult result = search("login");
+
+        // Then
+        assertThat(result.titleHighlight())
+                .isEqualTo("&lt;img src=x onerror=alert(1)&gt; <mark>Login</mark>");
+        assertThat(result.descriptionHighlight())
+                .isEqualTo("Fix the &lt;b&gt;<mark>login</mark>&lt;/b&gt; &amp; &quot;session&quot; flow");
+    }
+
+    @Test
+    @DisplayName("Should escape a search term that contains markup")
+    void given_termWithMarkup_when_searching_then_matchIsEscapedInsideMarkers() {
+        // Given
+        givenTasks(task("Render <script> tags", null));
+
+        // When
+        TaskSearchResult result = search("<script>");
+
+        // Then
+        assertThat(result.titleHighlight()).isEqualTo("Render <mark>&lt;script&gt;</mark> tags");
+        assertThat(result.descriptionHighlight()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should escape text whose lower case changes its length without highlighting it")
+    void given_textChangingLengthWhenLowerCased_when_searching_then_textIsOnlyEscaped() {
+        // Given the dotted capital I lower-cases to two characters
+        givenTasks(task("İ <i>match</i>", null));
+
+        // When
+        TaskSearchResult result = search("match");
+
+        // Then
+        assertThat(result.titleHighlight()).isEqualTo("İ &lt;i&gt;match&lt;/i&gt;");
+    }
+
+    private TaskSearchResult search(String query) {
+        Pageable pageable = PageRequest.of(0, 20);
+        return searchEngine.search(query, CALLER_ID, null, pageable).getContent().get(0);
+    }
+
+    private void givenTasks(Task... tasks) {
+        when(taskRepository.searchByText(any(), any(), anyString(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(tasks)));
+    }
+
+    private static Task task(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
@@ -0,0 +1,137 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.task.dto.TaskSearchResult;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Postgres Task Search Engine")
+class PostgresTaskSearchEngineTest {
+
+    private static final UUID CALLER_ID = UUID.randomUUID();
+    private static final String START = "\u0002";
+    private static final String STOP = "\u0003";
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private TaskSearchProperties properties;
+
+    private PostgresTaskSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskSearchProperties();
+        searchEngine = new PostgresTaskSearchEngine(jdbcTemplate, properties);
+        when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Long.class))).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("Should HTML-escape headlines and turn only the sentinels into highlight markers")
+    void given_headlinesWithMarkup_when_searching_then_onlySentinelsBecomeMarkers() throws Exception {
+        // Given
+        givenRow("<img src=x onerror=alert(1)> " + START + "Login" + STOP,
+                "Fix the <b>" + START + "login" + STOP + "</b> & \"session\" flow");
+
+        // When
+        TaskSearchResult result = searchEngine.search("login", CALLER_ID, null, PageRequest.of(0, 20)).getContent().getFirst();
+
+        // Then
+        assertThat(result.titleHighlight()).isEqualTo("&lt;img src=x onerror=alert(1)&gt; <mark>Login</mark>");
+        assertThat(result.descriptionHighlight())
+                .isEqualTo("Fix the &lt;b&gt;<mark>login</mark>&lt;/b&gt; &amp; &quot;session&quot; flow");
+    }
+
+    @Test
+    @DisplayName("Should use the configured markers and keep a missing description headline null")
+    void given_customMarkersAndNoDescription_when_searching_then_markersAreUsedAndDescriptionIsNull() throws Exception {
+        // Given
+        properties.setHighlightStart("[[");
+        properties.setHighlightStop("]]");
+        givenRow(START + "<script>" + STOP + " tags", null);
+
+        // When
+        TaskSearchResult result = searchEngine.search("script", CALLER_ID, null, PageRequest.of(0, 20)).getContent().getFirst();
+
+        // Then
+        assertThat(result.titleHighlight()).isEqualTo("[[&lt;script&gt;]] tags");
+        assertThat(result.descriptionHighlight()).isNull();
+        assertThat(result.task().status()).isEqualTo(TaskStatus.TODO);
+        assertThat(result.task().priority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(result.score()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should bind the query, sentinel headline options and page window, and filter by project only when given")
+    void given_projectAndPage_when_searching_then_parametersAndProjectFilterAreBound() throws Exception {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        givenRow("Title", null);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parameters = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+
+        // When
+        Page<TaskSearchResult> page = searchEngine.search("login -draft", CALLER_ID, projectId, PageRequest.of(2, 10));
+        searchEngine.search("login", CALLER_ID, null, PageRequest.of(0, 10));
+
+        // Then
+        verify(jdbcTemplate, times(2)).query(sql.capture(), parameters.capture(), any(RowMapper.class));
+        MapSqlParameterSource bound = parameters.getAllValues().getFirst();
+        assertThat(bound.getValue("query")).isEqualTo("login -draft");
+        assertThat(bound.getValue("callerId")).isEqualTo(CALLER_ID);
+        assertThat(bound.getValue("projectId")).isEqualTo(projectId);
+        assertThat(bound.getValue("limit")).isEqualTo(10);
+        assertThat(bound.getValue("offset")).isEqualTo(20L);
+        assertThat((String) bound.getValue("headlineOptions"))
+                .contains("StartSel=\"" + START + "\"", "StopSel=\"" + STOP + "\"");
+        assertThat(sql.getAllValues().get(0)).contains("AND t.project_id = :projectId", "websearch_to_tsquery('english', :query)");
+        assertThat(sql.getAllValues().get(1)).doesNotContain(":projectId");
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRow(String titleHighlight, String descriptionHighlight) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id", UUID.class)).thenReturn(UUID.randomUUID());
+        when(rs.getString("title")).thenReturn("title");
+        when(rs.getString("status")).thenReturn(TaskStatus.TODO.name());
+        when(rs.getString("priority")).thenReturn(TaskPriority.HIGH.name());
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 12, 0)));
+        when(rs.getDouble("score")).thenReturn(0.5);
+        when(rs.getString("title_highlight")).thenReturn(titleHighlight);
+        when(rs.getString("description_highlight")).thenReturn(descriptionHighlight);
+
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> List.of(invocation.<RowMapper<TaskSearchResult>>getArgument(2).mapRow(rs, 0)));
+    }
+}
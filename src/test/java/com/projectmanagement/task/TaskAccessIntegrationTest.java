@@ -0,0 +1,215 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.AssignTaskRequest;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskAccessView;
+import com.projectmanagement.task.dto.TaskDetailView;
+import com.projectmanagement.task.dto.UpdateTaskRequest;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Access")
+class TaskAccessIntegrationTest {
+
+    private static final String TASKS_URL = "http://localhost:8089/api/tasks";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private String managerToken;
+    private String developerToken;
+    private UUID managerId;
+    private UUID developerId;
+    private UUID adminId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        developerToken = AuthTestUtils.getDeveloperToken(restTemplate);
+        managerId = userRepository.findByEmail(TestUsers.MANAGER_EMAIL).orElseThrow().getId();
+        developerId = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId();
+        adminId = userRepository.findByEmail(TestUsers.ADMIN_EMAIL).orElseThrow().getId();
+        projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Access project");
+    }
+
+    @Test
+    @DisplayName("Given a member caller, when loading the task detail view, then the assignee's membership is joined in")
+    void givenMemberCaller_whenFindingTaskDetail_thenAssigneeMembershipIsJoined() {
+        // Given
+        UUID taskId = createTaskAssignedTo(managerId);
+
+        // When
+        TaskDetailView view = taskRepository.findTaskDetail(taskId, managerId).orElseThrow();
+
+        // Then
+        assertThat(view.getId()).isEqualTo(taskId);
+        assertThat(view.isCallerMember()).isTrue();
+        assertThat(view.getAssigneeUserId()).isEqualTo(managerId);
+        assertThat(view.getAssigneeEmail()).isEqualTo(TestUsers.MANAGER_EMAIL);
+        assertThat(view.getAssigneeRole()).isEqualTo(ProjectMemberRole.OWNER.name());
+        assertThat(view.getAssigneeJoinedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Given a non-member caller or a missing task, when loading the task detail view, then membership is false or the row is absent")
+    void givenNonMemberOrMissingTask_whenFindingTaskDetail_thenNotMemberOrEmpty() {
+        // Given
+        UUID taskId = createTaskAssignedTo(null);
+
+        // When
+        TaskDetailView view = taskRepository.findTaskDetail(taskId, developerId).orElseThrow();
+        Optional<TaskDetailView> missing = taskRepository.findTaskDetail(UUID.randomUUID(), managerId);
+
+        // Then
+        assertThat(view.isCallerMember()).isFalse();
+        assertThat(view.getAssigneeUserId()).isEqualTo(managerId);
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given caller and assignee, when loading a task for update, then both memberships are resolved in one row")
+    void givenCallerAndAssignee_whenFindingTaskForUpdate_thenBothMembershipsResolved() {
+        // Given
+        UUID taskId = createTaskAssignedTo(null);
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, developerId, ProjectMemberRole.MEMBER);
+
+        // When
+        TaskAccessView memberAssignee = taskRepository.findTaskForUpdate(taskId, managerId, developerId).orElseThrow();
+        TaskAccessView outsiderAssignee = taskRepository.findTaskForUpdate(taskId, managerId, adminId).orElseThrow();
+        TaskAccessView outsiderCaller = taskRepository.findTaskForUpdate(taskId, adminId, null).orElseThrow();
+        Optional<TaskAccessView> missing = taskRepository.findTaskForUpdate(UUID.randomUUID(), managerId, null);
+
+        // Then
+        assertThat(memberAssignee.getTask().getId()).isEqualTo(taskId);
+        assertThat(memberAssignee.isCallerMember()).isTrue();
+        assertThat(memberAssignee.isAssigneeMember()).isTrue();
+        assertThat(outsiderAssignee.isCallerMember()).isTrue();
+        assertThat(outsiderAssignee.isAssigneeMember()).isFalse();
+        assertThat(outsiderCaller.isCallerMember()).isFalse();
+        assertThat(outsiderCaller.isAssigneeMember()).isFalse();
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a task, when members, non-members and missing ids request its details, then should return ok, bad request and not found")
+    void givenTask_whenRequestingDetails_thenOutcomeFollowsMembership() {
+        // Given
+        UUID taskId = createTaskAssignedTo(managerId);
+
+        // When
+        ResponseEntity<JsonNode> member = getTask(managerToken, taskId);
+        ResponseEntity<JsonNode> nonMember = getTask(developerToken, taskId);
+        ResponseEntity<JsonNode> missing = getTask(managerToken, UUID.randomUUID());
+
+        // Then
+        assertThat(member.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(member.getBody().get("id").asText()).isEqualTo(taskId.toString());
+        assertThat(member.getBody().get("assignedMember").get("userId").asText()).isEqualTo(managerId.toString());
+        assertThat(nonMember.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Given a task, when updated by a member, a non-member or for a missing id, then should return no content, bad request and not found")
+    void givenTask_whenUpdating_thenOutcomeFollowsMembership() {
+        // Given
+        UUID taskId = createTaskAssignedTo(null);
+        UpdateTaskRequest request = new UpdateTaskRequest("Renamed", "Updated", TaskStatus.IN_PROGRESS,
+                TaskPriority.HIGH, managerId);
+
+        // When
+        ResponseEntity<JsonNode> nonMember = exchange(HttpMethod.PUT, "/" + taskId, developerToken, request);
+        ResponseEntity<JsonNode> missing = exchange(HttpMethod.PUT, "/" + UUID.randomUUID(), managerToken, request);
+        ResponseEntity<JsonNode> outsiderAssignee = exchange(HttpMethod.PUT, "/" + taskId, managerToken,
+                new UpdateTaskRequest("Renamed", "Updated", TaskStatus.IN_PROGRESS, TaskPriority.HIGH, adminId));
+        ResponseEntity<JsonNode> member = exchange(HttpMethod.PUT, "/" + taskId, managerToken, request);
+
+        // Then
+        assertThat(nonMember.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(outsiderAssignee.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(member.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        JsonNode updated = getTask(managerToken, taskId).getBody();
+        assertThat(updated.get("title").asText()).isEqualTo("Renamed");
+        assertThat(updated.get("assignedUserId").asText()).isEqualTo(managerId.toString());
+    }
+
+    @Test
+    @DisplayName("Given a task, when assigned by a member, a non-member or for a missing id, then should return no content, bad request and not found")
+    void givenTask_whenAssigning_thenOutcomeFollowsMembership() {
+        // Given
+        UUID taskId = createTaskAssignedTo(null);
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, developerId, ProjectMemberRole.MEMBER);
+
+        // When
+        ResponseEntity<JsonNode> nonMember = exchange(HttpMethod.PATCH, "/" + taskId + "/assign",
+                AuthTestUtils.getAdminToken(restTemplate), new AssignTaskRequest(managerId));
+        ResponseEntity<JsonNode> missing = exchange(HttpMethod.PATCH, "/" + UUID.randomUUID() + "/assign",
+                managerToken, new AssignTaskRequest(managerId));
+        ResponseEntity<JsonNode> outsiderAssignee = exchange(HttpMethod.PATCH, "/" + taskId + "/assign",
+                managerToken, new AssignTaskRequest(adminId));
+        ResponseEntity<JsonNode> member = exchange(HttpMethod.PATCH, "/" + taskId + "/assign",
+                managerToken, new AssignTaskRequest(developerId));
+
+        // Then
+        assertThat(nonMember.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(outsiderAssignee.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(member.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(getTask(developerToken, taskId).getBody().get("assignedUserId").asText())
+                .isEqualTo(developerId.toString());
+    }
+
+    private UUID createTaskAssignedTo(UUID assigneeId) {
+        return ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                new CreateTaskRequest("Access task", "Description", assigneeId, null, null));
+    }
+
+    private ResponseEntity<JsonNode> getTask(String token, UUID taskId) {
+        return exchange(HttpMethod.GET, "/" + taskId, token, null);
+    }
+
+    private ResponseEntity<JsonNode> exchange(HttpMethod method, String path, String token, Object body) {
+        return restTemplate.exchange(TASKS_URL + path, method,
+                new HttpEntity<>(body, AuthTestUtils.createAuthHeaders(token)), JsonNode.class);
+    }
+}
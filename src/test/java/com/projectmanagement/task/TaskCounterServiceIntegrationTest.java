@@ -0,0 +1,286 @@
+package com.projectmanagement.task;
+
+import com.projectmanagement.project.Project;
+import com.projectmanagement.project.ProjectRepository;
+import com.projectmanagement.task.dto.TaskSummaryResponse;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Counter Service")
+class TaskCounterServiceIntegrationTest {
+
+    private static final int MOVES_PER_WRITER = 100;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setName("Counter project");
+        project.setOwnerId(UUID.randomUUID());
+        projectId = projectRepository.save(project).getId();
+        taskCounterService.initializeProject(projectId);
+    }
+
+    @Test
+    @DisplayName("Given created and changed tasks, when reading the summary, then every increment and move is reflected")
+    void givenCreatedAndChangedTasks_whenReadingSummary_thenCountsReflectEveryChange() {
+        // Given a cached, empty summary
+        assertThat(taskCounterService.getSummary(projectId).total()).isZero();
+
+        // When
+        taskCounterService.taskCreated(projectId, TaskStatus.TODO, TaskPriority.LOW);
+        taskCounterService.tasksCreated(projectId, List.of(
+                task(TaskStatus.TODO, TaskPriority.HIGH),
+                task(TaskStatus.REVIEW, TaskPriority.HIGH),
+                task(TaskStatus.TODO, TaskPriority.HIGH)));
+        taskCounterService.taskChanged(projectId, TaskStatus.TODO, TaskPriority.HIGH, TaskStatus.DONE, TaskPriority.CRITICAL);
+        taskCounterService.taskChanged(projectId, TaskStatus.TODO, TaskPriority.LOW, TaskStatus.TODO, TaskPriority.LOW);
+
+        // Then
+        TaskSummaryResponse summary = taskCounterService.getSummary(projectId);
+        assertThat(summary.total()).isEqualTo(4);
+        assertThat(summary.byStatus()).containsEntry(TaskStatus.TODO, 2L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatus.REVIEW, 1L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(summary.byPriority()).containsEntry(TaskPriority.LOW, 1L)
+                .containsEntry(TaskPriority.MEDIUM, 0L)
+                .containsEntry(TaskPriority.HIGH, 2L)
+                .containsEntry(TaskPriority.CRITICAL, 1L);
+    }
+
+    @Test
+    @DisplayName("Given counters that drifted from the tasks, when recounting, then they match the tasks again")
+    void givenDriftedCounters_whenRecounting_thenCountersMatchTasks() {
+        // Given counters that claim tasks which do not exist
+        taskCounterService.tasksCreated(projectId, List.of(task(TaskStatus.DONE, TaskPriority.LOW), task(TaskStatus.DONE, TaskPriority.LOW)));
+        saveTask(projectId, TaskStatus.TODO, TaskPriority.MEDIUM);
+        saveTask(projectId, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM);
+        saveTask(UUID.randomUUID(), TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM);
+
+        // When
+        taskCounterService.recount(projectId);
+
+        // Then
+        TaskSummaryResponse summary = taskCounterService.getSummary(projectId);
+        assertThat(summary.total()).isEqualTo(2);
+        assertThat(summary.byStatus()).containsEntry(TaskStatus.TODO, 1L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.DONE, 0L);
+        assertThat(summary.byPriority()).containsEntry(TaskPriority.MEDIUM, 2L)
+                .containsEntry(TaskPriority.LOW, 0L);
+    }
+
+    @Test
+    @DisplayName("Given a project without counter rows, when a task is created, then the counters are rebuilt from its tasks")
+    void givenProjectWithoutCounters_whenTaskCreated_thenCountersAreRecountedOnce() {
+        // Given a project whose tasks predate the counters
+        UUID uncountedProjectId = UUID.randomUUID();
+        saveTask(uncountedProjectId, TaskStatus.TODO, TaskPriority.HIGH);
+        saveTask(uncountedProjectId, TaskStatus.DONE, TaskPriority.HIGH);
+
+        // When the increment finds no row to update
+        taskCounterService.taskCreated(uncountedProjectId, TaskStatus.DONE, TaskPriority.HIGH);
+
+        // Then the recount already includes that task and the increment is not applied on top of it
+        TaskSummaryResponse summary = taskCounterService.getSummary(uncountedProjectId);
+        assertThat(summary.total()).isEqualTo(2);
+        assertThat(summary.byStatus()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DONE, 1L);
+        assertThat(counterRepository.findByProjectId(uncountedProjectId))
+                .hasSize(TaskStatus.values().length * TaskPriority.values().length);
+    }
+
+    @Test
+    @DisplayName("Given a project missing some counter rows, when recounting, then the missing rows are added next to the existing ones")
+    void givenPartialCounterRows_whenRecounting_thenMissingRowsAreAdded() {
+        // Given
+        saveTask(projectId, TaskStatus.REVIEW, TaskPriority.LOW);
+        saveTask(projectId, TaskStatus.TODO, TaskPriority.LOW);
+        counterRepository.deleteById(new ProjectTaskCounterId(projectId, TaskStatus.REVIEW, TaskPriority.LOW));
+        counterRepository.deleteById(new ProjectTaskCounterId(projectId, TaskStatus.DONE, TaskPriority.CRITICAL));
+
+        // When
+        taskCounterService.recount(projectId);
+
+        // Then
+        assertThat(counterRepository.findByProjectId(projectId))
+                .hasSize(TaskStatus.values().length * TaskPriority.values().length);
+        TaskSummaryResponse summary = taskCounterService.getSummary(projectId);
+        assertThat(summary.total()).isEqualTo(2);
+        assertThat(summary.byStatus()).containsEntry(TaskStatus.REVIEW, 1L).containsEntry(TaskStatus.TODO, 1L);
+    }
+
+    @Test
+    @DisplayName("Given projects created before the counters, when the application starts, then each one is recounted")
+    void givenProjectsWithoutCounters_whenInitializing_thenEachProjectIsRecounted() {
+        // Given
+        UUID firstProjectId = saveProjectWithoutCounters("Legacy one");
+        UUID secondProjectId = saveProjectWithoutCounters("Legacy two");
+        saveTask(firstProjectId, TaskStatus.TODO, TaskPriority.HIGH);
+        saveTask(secondProjectId, TaskStatus.DONE, TaskPriority.LOW);
+        saveTask(secondProjectId, TaskStatus.DONE, TaskPriority.LOW);
+
+        // When
+        taskCounterService.initializeMissingCounters();
+
+        // Then
+        assertThat(counterRepository.findProjectIdsWithoutCounters()).doesNotContain(firstProjectId, secondProjectId);
+        assertThat(taskCounterService.getSummary(firstProjectId).byStatus()).containsEntry(TaskStatus.TODO, 1L);
+        assertThat(taskCounterService.getSummary(secondProjectId).byStatus()).containsEntry(TaskStatus.DONE, 2L);
+    }
+
+    @Test
+    @DisplayName("Given writers moving tasks in opposite directions, when they run concurrently, then every move commits and the totals balance")
+    void givenOppositeMoves_whenRunConcurrently_thenEveryMoveCommitsAndTotalsBalance() throws Exception {
+        // Given both counter rows already hold tasks
+        taskCounterService.tasksCreated(projectId, tasks(TaskStatus.TODO, TaskPriority.HIGH, MOVES_PER_WRITER));
+        taskCounterService.tasksCreated(projectId, tasks(TaskStatus.DONE, TaskPriority.HIGH, MOVES_PER_WRITER));
+
+        // When one writer closes tasks while another reopens them
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Void> closing = CompletableFuture.runAsync(() -> move(start,
+                    TaskStatus.TODO, TaskStatus.DONE), executor);
+            CompletableFuture<Void> reopening = CompletableFuture.runAsync(() -> move(start,
+                    TaskStatus.DONE, TaskStatus.TODO), executor);
+            CompletableFuture.allOf(closing, reopening).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then no move was aborted and the counters are back where they started
+        TaskSummaryResponse summary = taskCounterService.getSummary(projectId);
+        assertThat(summary.total()).isEqualTo(2L * MOVES_PER_WRITER);
+        assertThat(summary.byStatus().get(TaskStatus.TODO)).isEqualTo(MOVES_PER_WRITER);
+        assertThat(summary.byStatus().get(TaskStatus.DONE)).isEqualTo(MOVES_PER_WRITER);
+    }
+
+    @Test
+    @DisplayName("Given a task created but not yet committed, when the counters are recounted meanwhile, then its increment is not lost")
+    void givenUncommittedTaskCreation_whenRecountedMeanwhile_thenIncrementIsNotLost() throws Exception {
+        // Given a writer that has inserted a task and incremented its counter, but not committed yet
+        CountDownLatch incremented = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            CompletableFuture<Void> creating = CompletableFuture.runAsync(() ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        saveTask(projectId, TaskStatus.TODO, TaskPriority.HIGH);
+                        taskCounterService.taskCreated(projectId, TaskStatus.TODO, TaskPriority.HIGH);
+                        incremented.countDown();
+                        await(commit);
+                    }), executor);
+            assertThat(incremented.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When a recount starts before that commit and the writer commits while it runs
+            CompletableFuture<Void> recounting = CompletableFuture.runAsync(() ->
+                    taskCounterService.recount(projectId), executor);
+            Thread.sleep(200);
+            commit.countDown();
+            CompletableFuture.allOf(creating, recounting).get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        // Then the recount waited for the writer and counted its task
+        TaskSummaryResponse summary = taskCounterService.getSummary(projectId);
+        assertThat(summary.total()).isEqualTo(1);
+        assertThat(summary.byStatus().get(TaskStatus.TODO)).isEqualTo(1);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void move(CyclicBarrier start, TaskStatus from, TaskStatus to) {
+        await(start);
+        for (int i = 0; i < MOVES_PER_WRITER; i++) {
+            taskCounterService.taskChanged(projectId, from, TaskPriority.HIGH, to, TaskPriority.HIGH);
+        }
+    }
+
+    private static List<Task> tasks(TaskStatus status, TaskPriority priority, int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(status, priority));
+        }
+        return tasks;
+    }
+
+    private static Task task(TaskStatus status, TaskPriority priority) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setPriority(priority);
+        return task;
+    }
+
+    private UUID saveProjectWithoutCounters(String name) {
+        Project project = new Project();
+        project.setName(name);
+        project.setOwnerId(UUID.randomUUID());
+        return projectRepository.save(project).getId();
+    }
+
+    private void saveTask(UUID projectId, TaskStatus status, TaskPriority priority) {
+        Task task = task(status, priority);
+        task.setTitle(status + " " + priority);
+        task.setProjectId(projectId);
+        task.setCreatedById(UUID.randomUUID());
+        taskRepository.save(task);
+    }
+}
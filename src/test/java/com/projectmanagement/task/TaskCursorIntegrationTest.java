@@ -0,0 +1,173 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.exception.InvalidCursorException;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Cursor")
+class TaskCursorIntegrationTest {
+
+    private static final Sort CREATED_AT_DESC = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskCursorCodec cursorCodec;
+
+    @BeforeEach
+    void setUp() {
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("Given keyset keys of different types, when encoded and decoded, then the keys round-trip with their types")
+    void givenTypedKeys_whenEncodedAndDecoded_thenKeysRoundTrip() {
+        // Given
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_000_000));
+        keys.put("id", UUID.randomUUID());
+
+        // When
+        String cursor = cursorCodec.encode(ScrollPosition.forward(keys), CREATED_AT_DESC);
+        KeysetScrollPosition decoded = cursorCodec.decode(cursor, CREATED_AT_DESC);
+
+        // Then
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(decoded.getKeys()).isEqualTo(keys);
+        assertThat(decoded.scrollsForward()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given no cursor, when decoded, then scrolling starts from the beginning")
+    void givenNoCursor_whenDecoded_thenInitialPositionIsReturned() {
+        // When / Then
+        assertThat(cursorCodec.decode(null, CREATED_AT_DESC).isInitial()).isTrue();
+        assertThat(cursorCodec.decode("  ", CREATED_AT_DESC).isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given a cursor issued for another sort, when decoded, then it is rejected")
+    void givenCursorForOtherSort_whenDecoded_thenRejected() {
+        // Given
+        String cursor = cursorCodec.encode(ScrollPosition.forward(Map.of("title", "a", "id", UUID.randomUUID())),
+                Sort.by("title", "id"));
+
+        // When / Then
+        assertThatThrownBy(() -> cursorCodec.decode(cursor, CREATED_AT_DESC))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("different sort order");
+    }
+
+    @Test
+    @DisplayName("Given tampered cursors, when decoded, then they are rejected as malformed")
+    void givenTamperedCursors_whenDecoded_thenRejectedAsMalformed() {
+        // Given
+        String sort = CREATED_AT_DESC.toString();
+        List<String> cursors = List.of(
+                "not base64!",
+                encode("not json"),
+                encode("{\"s\":\"" + sort + "\",\"k\":{}}"),
+                encode("{\"s\":\"" + sort + "\",\"k\":{\"password\":\"x\"}}"),
+                encode("{\"s\":\"" + sort + "\",\"k\":{\"id\":null}}"),
+                encode("{\"s\":\"" + sort + "\",\"k\":{\"id\":\"not-a-uuid\"}}"));
+
+        // When / Then
+        for (String cursor : cursors) {
+            assertThatThrownBy(() -> cursorCodec.decode(cursor, CREATED_AT_DESC))
+                    .as(cursor)
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessage("Malformed cursor");
+        }
+    }
+
+    @Test
+    @DisplayName("Given more tasks than a page, when scrolling with the returned cursors, then every task is returned exactly once")
+    void givenSeveralPages_whenScrollingWithCursors_thenEveryTaskIsReturnedOnce() {
+        // Given
+        String managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        UUID projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Cursor project");
+        Set<String> created = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                    new CreateTaskRequest("Task " + i, null, null, null, null)).toString());
+        }
+
+        // When
+        List<String> scrolled = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, managerToken,
+                    "/" + projectId + "/tasks/scroll?size=2&sort=title,desc" + (cursor != null ? "&cursor=" + cursor : ""));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            response.getBody().get("content").forEach(task -> scrolled.add(task.get("id").asText()));
+            cursor = response.getBody().get("hasNext").asBoolean() ? response.getBody().get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(scrolled).hasSize(5).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    @DisplayName("Given a malformed cursor, when scrolling, then should return bad request")
+    void givenMalformedCursor_whenScrolling_thenBadRequest() {
+        // Given
+        String managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        UUID projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Cursor project");
+
+        // When
+        ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, managerToken,
+                "/" + projectId + "/tasks/scroll?size=2&cursor=garbage");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().get("message").asText()).isEqualTo("Malformed cursor");
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes());
+    }
+}
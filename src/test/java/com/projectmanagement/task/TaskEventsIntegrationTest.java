@@ -0,0 +1,426 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.ProjectMembershipCacheProperties;
+import com.projectmanagement.project.ProjectMembershipChangedEvent;
+import com.projectmanagement.project.ProjectTestConstants.ApiEndpoints;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.project.enums.ProjectMemberRole;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.enums.TaskChangeType;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Events")
+class TaskEventsIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskEventBroadcaster broadcaster;
+
+    @Autowired
+    private TaskEventProperties eventProperties;
+
+    @Autowired
+    private ProjectMembershipCacheProperties membershipCacheProperties;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private int originalSubscriberQueueSize;
+    private int originalReplayBufferSize;
+    private String managerToken;
+    private String developerToken;
+    private UUID developerId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        originalSubscriberQueueSize = eventProperties.getSubscriberQueueSize();
+        originalReplayBufferSize = eventProperties.getReplayBufferSize();
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        developerToken = AuthTestUtils.getDeveloperToken(restTemplate);
+        developerId = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow().getId();
+        projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Events project");
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventProperties.setSubscriberQueueSize(originalSubscriberQueueSize);
+        eventProperties.setReplayBufferSize(originalReplayBufferSize);
+        httpClient.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Given a member subscribed to a project, when a task is created, then the change is streamed to them")
+    void givenSubscribedMember_whenTaskCreated_thenChangeIsStreamed() throws Exception {
+        // Given
+        EventStream stream = subscribe(managerToken, null);
+        assertThat(stream.status()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        UUID taskId = createTask("Streamed");
+
+        // Then
+        SseEvent event = stream.next();
+        assertThat(event.name()).isEqualTo(TaskChangeType.CREATED.name());
+        assertThat(event.id()).isPositive();
+        JsonNode data = objectMapper.readTree(event.data());
+        assertThat(data.get("projectId").asText()).isEqualTo(projectId.toString());
+        assertThat(data.get("task").get("id").asText()).isEqualTo(taskId.toString());
+    }
+
+    @Test
+    @DisplayName("Given a user outside the project, when subscribing, then should return bad request")
+    void givenNonMember_whenSubscribing_thenBadRequest() throws Exception {
+        // When
+        EventStream stream = subscribe(developerToken, null);
+
+        // Then
+        assertThat(stream.status()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Given a client that missed events, when it reconnects with Last-Event-ID, then the missed events are replayed in order")
+    void givenMissedEvents_whenReconnectingWithLastEventId_thenMissedEventsAreReplayed() throws Exception {
+        // Given a client that saw the first change and then went away
+        EventStream first = subscribe(managerToken, null);
+        createTask("Seen");
+        long lastSeenId = first.next().id();
+        first.close();
+        UUID missed = createTask("Missed");
+        UUID alsoMissed = createTask("Also missed");
+
+        // When
+        EventStream resumed = subscribe(managerToken, lastSeenId);
+
+        // Then
+        SseEvent replayed = resumed.next();
+        SseEvent replayedNext = resumed.next();
+        assertThat(objectMapper.readTree(replayed.data()).get("task").get("id").asText()).isEqualTo(missed.toString());
+        assertThat(objectMapper.readTree(replayedNext.data()).get("task").get("id").asText()).isEqualTo(alsoMissed.toString());
+        assertThat(replayed.id()).isGreaterThan(lastSeenId);
+        assertThat(replayedNext.id()).isGreaterThan(replayed.id());
+    }
+
+    @Test
+    @DisplayName("Given a client whose last event was trimmed from the replay buffer, when it reconnects, then it is told to reload")
+    void givenLastEventTrimmed_whenReconnecting_thenResetIsSent() throws Exception {
+        // Given a client that saw one change and then missed more than the buffer holds
+        eventProperties.setReplayBufferSize(2);
+        EventStream first = subscribe(managerToken, null);
+        createTask("Seen");
+        long lastSeenId = first.next().id();
+        first.close();
+        createTask("Missed 1");
+        createTask("Missed 2");
+        createTask("Missed 3");
+
+        // When
+        EventStream resumed = subscribe(managerToken, lastSeenId);
+
+        // Then
+        SseEvent reset = resumed.next();
+        assertThat(reset.name()).isEqualTo(TaskChangeType.RESET.name());
+        assertThat(objectMapper.readTree(reset.data()).get("projectId").asText()).isEqualTo(projectId.toString());
+    }
+
+    @Test
+    @DisplayName("Given an instance that has not buffered the project, when a client resumes on it, then it is told to reload once")
+    void givenUnbufferedProject_whenResuming_thenResetIsSentOnce() throws Exception {
+        // Given a client coming from another instance, or from a channel that was dropped
+        long lastSeenElsewhere = System.currentTimeMillis() * 1000 - 60_000_000;
+
+        // When
+        EventStream resumed = subscribe(managerToken, lastSeenElsewhere);
+
+        // Then
+        SseEvent reset = resumed.next();
+        assertThat(reset.name()).isEqualTo(TaskChangeType.RESET.name());
+
+        // And resuming from the reset picks up the next change instead of resetting again
+        resumed.close();
+        EventStream afterReset = subscribe(managerToken, reset.id());
+        UUID taskId = createTask("After reset");
+        SseEvent next = afterReset.next();
+        assertThat(next.name()).isEqualTo(TaskChangeType.CREATED.name());
+        assertThat(objectMapper.readTree(next.data()).get("task").get("id").asText()).isEqualTo(taskId.toString());
+    }
+
+    @Test
+    @DisplayName("Given a last event id this instance never buffered, when resuming, then it is told to reload even if newer ids are buffered")
+    void givenUnknownLastEventId_whenResuming_thenResetIsSent() throws Exception {
+        // Given a buffered change, and a client whose last event came from an instance with a slower clock
+        EventStream first = subscribe(managerToken, null);
+        createTask("Buffered");
+        long bufferedId = first.next().id();
+        first.close();
+
+        // When
+        EventStream resumed = subscribe(managerToken, bufferedId - 1);
+
+        // Then
+        SseEvent reset = resumed.next();
+        assertThat(reset.name()).isEqualTo(TaskChangeType.RESET.name());
+        assertThat(reset.id()).isEqualTo(bufferedId);
+    }
+
+    @Test
+    @DisplayName("Given a change relayed late from another instance with a lower id, when a client reconnects, then it is still replayed")
+    void givenLateRemoteChange_whenReconnecting_thenItIsReplayed() throws Exception {
+        // Given a client that saw a local change, after which an older change from another instance arrived
+        EventStream first = subscribe(managerToken, null);
+        createTask("Local");
+        long lastSeenId = first.next().id();
+        first.close();
+        TaskEventEnvelope late = remoteEnvelope(lastSeenId - 1, "Late");
+        broadcaster.dispatchRemote(late);
+
+        // When
+        EventStream resumed = subscribe(managerToken, lastSeenId);
+
+        // Then
+        SseEvent replayed = resumed.next();
+        assertThat(replayed.id()).isEqualTo(late.id());
+        assertThat(objectMapper.readTree(replayed.data()).get("task").get("id").asText())
+                .isEqualTo(late.event().task().id().toString());
+    }
+
+    @Test
+    @DisplayName("Given a client that stops reading, when its queue overflows, then its stream is closed instead of buffering without bound")
+    void givenClientNotReading_whenQueueOverflows_thenStreamIsClosed() throws Exception {
+        // Given a subscriber that never reads, so the socket buffers fill and events pile up in its queue
+        eventProperties.setSubscriberQueueSize(4);
+        int published = 20_000;
+        try (Socket socket = new Socket("localhost", 8089)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /api/projects/" + projectId + "/tasks/events HTTP/1.1\r\n"
+                    + "Host: localhost:8089\r\n"
+                    + "Authorization: Bearer " + managerToken + "\r\n"
+                    + "Accept: text/event-stream\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            int first = in.read();
+            assertThat(first).isNotNegative();
+
+            // When
+            String description = "x".repeat(2000);
+            for (int i = 0; i < published; i++) {
+                broadcaster.dispatchRemote(remoteEnvelope(System.currentTimeMillis() * 1000 + i, description));
+            }
+
+            // Then the server ends the response long before all events were written
+            socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            String received = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            int delivered = received.split("event:" + TaskChangeType.UPDATED.name(), -1).length - 1;
+            assertThat(delivered).isLessThan(published);
+        }
+    }
+
+    @Test
+    @DisplayName("Given a change on another instance, when it arrives over Redis, then local subscribers receive it")
+    void givenRemoteChange_whenRelayedOverRedis_thenLocalSubscribersReceiveIt() throws Exception {
+        // Given
+        EventStream stream = subscribe(managerToken, null);
+        TaskEventEnvelope envelope = remoteEnvelope(System.currentTimeMillis() * 1000 + 7, "Remote");
+
+        // When
+        redisTemplate.convertAndSend(eventProperties.getChannel(), objectMapper.writeValueAsString(envelope));
+
+        // Then
+        SseEvent event = stream.next();
+        assertThat(event.id()).isEqualTo(envelope.id());
+        assertThat(event.name()).isEqualTo(TaskChangeType.UPDATED.name());
+        assertThat(objectMapper.readTree(event.data()).get("task").get("id").asText())
+                .isEqualTo(envelope.event().task().id().toString());
+    }
+
+    @Test
+    @DisplayName("Given a subscribed member, when they are removed from the project, then their stream is closed")
+    void givenSubscribedMember_whenRemovedFromProject_thenStreamIsClosed() throws Exception {
+        // Given
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, developerId, ProjectMemberRole.MEMBER);
+        EventStream developerStream = subscribe(developerToken, null);
+        EventStream managerStream = subscribe(managerToken, null);
+        assertThat(developerStream.status()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        assertThat(restTemplate.exchange(ApiEndpoints.PROJECTS_URL + "/" + projectId + "/members/" + developerId,
+                HttpMethod.DELETE, new HttpEntity<>(AuthTestUtils.createAuthHeaders(managerToken)), Void.class)
+                .getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        // Then only the removed user's stream ends, and they cannot subscribe again
+        assertThat(developerStream.awaitEnd()).isTrue();
+        createTask("After removal");
+        assertThat(managerStream.next().name()).isEqualTo(TaskChangeType.CREATED.name());
+        assertThat(subscribe(developerToken, null).status()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("Given a subscribed member, when their membership changes on another instance, then their stream is closed")
+    void givenSubscribedMember_whenMembershipChangesRemotely_thenStreamIsClosed() throws Exception {
+        // Given
+        ProjectTestUtils.addMember(restTemplate, managerToken, projectId, developerId, ProjectMemberRole.MEMBER);
+        EventStream stream = subscribe(developerToken, null);
+        assertThat(stream.status()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        redisTemplate.convertAndSend(membershipCacheProperties.getEventsChannel(),
+                new ProjectMembershipChangedEvent(projectId, developerId).toMessage());
+
+        // Then
+        assertThat(stream.awaitEnd()).isTrue();
+    }
+
+    private UUID createTask(String title) {
+        return ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                new CreateTaskRequest(title, null, null, null, null));
+    }
+
+    private TaskEventEnvelope remoteEnvelope(long id, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Remote task", description, TaskStatus.TODO,
+                TaskPriority.LOW, projectId, null, UUID.randomUUID(), now, now);
+        return new TaskEventEnvelope(id, "other-instance", TaskChangedEvent.of(TaskChangeType.UPDATED, task));
+    }
+
+    private EventStream subscribe(String token, Long lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create(ApiEndpoints.PROJECTS_URL + "/" + projectId + "/tasks/events"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream, application/json");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", Long.toString(lastEventId));
+        }
+
+        // The subscription is registered before the response headers are flushed
+        HttpResponse<Stream<String>> response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return new EventStream(response);
+    }
+
+    private record SseEvent(long id, String name, String data) {
+    }
+
+    private static final class EventStream {
+
+        private static final String END = "\u0000end";
+
+        private final HttpResponse<Stream<String>> response;
+        private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Void> reader;
+
+        EventStream(HttpResponse<Stream<String>> response) {
+            this.response = response;
+            this.reader = CompletableFuture.runAsync(() -> {
+                try (Stream<String> body = response.body()) {
+                    body.forEach(lines::add);
+                } catch (RuntimeException e) {
+                    // Closed by the test
+                } finally {
+                    lines.add(END);
+                }
+            });
+        }
+
+        int status() {
+            return response.statusCode();
+        }
+
+        // Skips heartbeats and returns the next complete event
+        SseEvent next() throws InterruptedException {
+            Long id = null;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            while (true) {
+                String line = lines.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                assertThat(line).as("next event").isNotNull().isNotEqualTo(END);
+                if (line.isEmpty()) {
+                    if (name != null) {
+                        return new SseEvent(id, name, data.toString());
+                    }
+                } else if (line.startsWith("id:")) {
+                    id = Long.parseLong(line.substring(3).trim());
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data.append(line.substring(5));
+                }
+            }
+        }
+
+        boolean awaitEnd() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (System.nanoTime() < deadline) {
+                String line = lines.poll(100, TimeUnit.MILLISECONDS);
+                if (END.equals(line)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void close() {
+            response.body().close();
+            reader.cancel(true);
+        }
+    }
+}
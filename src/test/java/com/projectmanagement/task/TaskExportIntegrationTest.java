@@ -0,0 +1,192 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.ProjectTestConstants.ApiEndpoints;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Export")
+class TaskExportIntegrationTest {
+
+    private static final int FLUSH_SIZE = 2;
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,projectId,assignedUserId,createdById,createdAt,updatedAt";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskBatchProperties batchProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private int originalFlushSize;
+    private String managerToken;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        originalFlushSize = batchProperties.getFlushSize();
+        batchProperties.setFlushSize(FLUSH_SIZE);
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        projectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Export project");
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchProperties.setFlushSize(originalFlushSize);
+    }
+
+    @Test
+    @DisplayName("Given more tasks than the flush size, when exported as NDJSON, then every task is written in creation order")
+    void givenSeveralFlushBatches_whenExportedAsNdjson_thenEveryTaskIsWrittenInOrder() throws IOException {
+        // Given five tasks, so the persistence context is cleared twice while streaming
+        List<UUID> taskIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            taskIds.add(createTask("Task " + i, "Description " + i));
+        }
+
+        // When
+        ResponseEntity<byte[]> response = export("NDJSON", false);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"tasks-" + projectId + ".ndjson\"");
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines(response.getBody())) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).extracting(row -> UUID.fromString(row.get("id").asText())).containsExactlyElementsOf(taskIds);
+        assertThat(rows.get(4).get("title").asText()).isEqualTo("Task 5");
+        assertThat(rows.get(4).get("projectId").asText()).isEqualTo(projectId.toString());
+    }
+
+    @Test
+    @DisplayName("Given text with separators, quotes and formula prefixes, when exported as CSV, then fields are quoted and neutralised")
+    void givenSpecialCharacters_whenExportedAsCsv_thenFieldsAreQuotedAndNeutralised() {
+        // Given
+        UUID plainId = createTask("Plain", null);
+        UUID quotedId = createTask("Say \"hi\", then leave", "Line one\nLine two");
+        UUID formulaId = createTask("=HYPERLINK(\"http://evil\")", "@SUM(A1)");
+
+        // When
+        ResponseEntity<byte[]> response = export("CSV", false);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("text/csv;charset=UTF-8");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"tasks-" + projectId + ".csv\"");
+
+        String csv = new String(response.getBody(), StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(CSV_HEADER + "\n");
+        assertThat(csv).contains(plainId + ",Plain,,TODO,MEDIUM," + projectId + ",,");
+        assertThat(csv).contains(quotedId + ",\"Say \"\"hi\"\", then leave\",\"Line one\nLine two\",TODO,MEDIUM,");
+        assertThat(csv).contains(formulaId + ",\"'=HYPERLINK(\"\"http://evil\"\")\",'@SUM(A1),TODO,MEDIUM,");
+    }
+
+    @Test
+    @DisplayName("Given gzip requested, when exported, then the body is gzip encoded")
+    void givenGzipRequested_whenExported_thenBodyIsGzipEncoded() throws IOException {
+        // Given
+        UUID taskId = createTask("Compressed", null);
+
+        // When
+        ResponseEntity<byte[]> response = export("NDJSON", true);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            body = in.readAllBytes();
+        }
+        List<String> lines = lines(body);
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines.getFirst()).get("id").asText()).isEqualTo(taskId.toString());
+    }
+
+    @Test
+    @DisplayName("Given a caller outside the project, when exporting, then should return bad request")
+    void givenNonMemberCaller_whenExporting_thenBadRequest() {
+        // Given
+        createTask("Private", null);
+
+        // When
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                exportUrl("NDJSON", false),
+                HttpMethod.GET,
+                new HttpEntity<>(AuthTestUtils.createAuthHeaders(AuthTestUtils.getAdminToken(restTemplate))),
+                byte[].class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private UUID createTask(String title, String description) {
+        return ProjectTestUtils.createTask(restTemplate, managerToken, projectId,
+                new CreateTaskRequest(title, description, null, TaskStatus.TODO, TaskPriority.MEDIUM));
+    }
+
+    private ResponseEntity<byte[]> export(String format, boolean gzip) {
+        return restTemplate.exchange(
+                exportUrl(format, gzip),
+                HttpMethod.GET,
+                new HttpEntity<>(AuthTestUtils.createAuthHeaders(managerToken)),
+                byte[].class);
+    }
+
+    private String exportUrl(String format, boolean gzip) {
+        return ApiEndpoints.PROJECTS_URL + "/" + projectId + "/tasks/export?format=" + format + "&gzip=" + gzip;
+    }
+
+    private static List<String> lines(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8).lines().toList();
+    }
+}
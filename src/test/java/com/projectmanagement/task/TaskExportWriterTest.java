@@ -0,0 +1,90 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.projectmanagement.task.dto.TaskResponse;
+import com.projectmanagement.task.enums.TaskFileFormat;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Task Export Writer")
+class TaskExportWriterTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        TaskBatchProperties properties = new TaskBatchProperties();
+        properties.setFlushSize(2);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        writer = new TaskExportWriter(taskRepository, taskMapper, objectMapper, entityManager, properties);
+
+        when(taskMapper.toResponse(any(Task.class))).thenAnswer(invocation -> new TaskResponse(
+                UUID.randomUUID(), "Title", null, TaskStatus.TODO, TaskPriority.LOW, PROJECT_ID, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should clear the persistence context after every flush-size rows while streaming")
+    void given_fiveTasks_when_exporting_then_contextIsClearedEveryTwoRows() throws IOException {
+        // Given
+        when(taskRepository.streamByProjectId(PROJECT_ID)).thenReturn(Stream.generate(Task::new).limit(5));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = writer.write(PROJECT_ID, TaskFileFormat.NDJSON, false, out);
+
+        // Then
+        assertThat(rows).isEqualTo(5);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(5);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Should write only the CSV header and never clear for a project without tasks")
+    void given_noTasks_when_exportingCsv_then_onlyHeaderIsWritten() throws IOException {
+        // Given
+        when(taskRepository.streamByProjectId(PROJECT_ID)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = writer.write(PROJECT_ID, TaskFileFormat.CSV, false, out);
+
+        // Then
+        assertThat(rows).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,title,description,status,priority,projectId,assignedUserId,createdById,createdAt,updatedAt\n");
+        verify(entityManager, never()).clear();
+    }
+}
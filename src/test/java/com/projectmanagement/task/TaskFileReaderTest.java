@@ -0,0 +1,111 @@
+package com.projectmanagement.task;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Task File Reader")
+class TaskFileReaderTest {
+
+    @Test
+    @DisplayName("Should keep separators, newlines and escaped quotes inside quoted fields")
+    void given_quotedFields_when_reading_then_contentIsPreserved() throws IOException {
+        // Given
+        TaskFileReader reader = reader("title,description\n\"a, b\",\"line one\nline \"\"two\"\"\"\nplain,\"\"\n", 100);
+
+        // When / Then
+        assertThat(reader.nextCsvRecord()).containsExactly("title", "description");
+        assertThat(reader.nextCsvRecord()).containsExactly("a, b", "line one\nline \"two\"");
+        assertThat(reader.row()).isEqualTo(2);
+        assertThat(reader.nextCsvRecord()).containsExactly("plain", "");
+        assertThat(reader.nextCsvRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should treat CRLF, bare CR and LF as record terminators")
+    void given_mixedLineEndings_when_reading_then_eachRecordIsSplitOnce() throws IOException {
+        // Given
+        TaskFileReader reader = reader("a,b\r\nc,d\re,f\n\r\ng", 100);
+
+        // When / Then
+        assertThat(reader.nextCsvRecord()).containsExactly("a", "b");
+        assertThat(reader.nextCsvRecord()).containsExactly("c", "d");
+        assertThat(reader.nextCsvRecord()).containsExactly("e", "f");
+        assertThat(reader.nextCsvRecord()).containsExactly("");
+        assertThat(reader.nextCsvRecord()).containsExactly("g");
+        assertThat(reader.row()).isEqualTo(5);
+        assertThat(reader.nextCsvRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should strip CR from NDJSON lines")
+    void given_crlfLines_when_readingLines_then_crIsDropped() throws IOException {
+        // Given
+        TaskFileReader reader = reader("{\"title\":\"a\"}\r\n\r\n{\"title\":\"b\"}", 100);
+
+        // When / Then
+        assertThat(reader.nextLine()).isEqualTo("{\"title\":\"a\"}");
+        assertThat(reader.nextLine()).isEmpty();
+        assertThat(reader.nextLine()).isEqualTo("{\"title\":\"b\"}");
+        assertThat(reader.nextLine()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject text after a closing quote")
+    void given_textAfterClosingQuote_when_reading_then_fileIsMalformed() throws IOException {
+        // Given
+        TaskFileReader reader = reader("title\n\"a\"b\n", 100);
+        reader.nextCsvRecord();
+
+        // When / Then
+        assertThatThrownBy(reader::nextCsvRecord)
+                .isInstanceOf(TaskFileReader.MalformedFileException.class)
+                .hasMessageContaining("row 2");
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void given_unterminatedQuote_when_reading_then_fileIsMalformed() {
+        // Given
+        TaskFileReader reader = reader("\"never closed,\n", 100);
+
+        // When / Then
+        assertThatThrownBy(reader::nextCsvRecord)
+                .isInstanceOf(TaskFileReader.MalformedFileException.class)
+                .hasMessageContaining("Unterminated");
+    }
+
+    @Test
+    @DisplayName("Should cap the record length including field separators")
+    void given_recordOfOnlySeparators_when_reading_then_lengthCapApplies() throws IOException {
+        // Given
+        TaskFileReader reader = reader("a,b,c\n" + ",".repeat(1000) + "\n", 10);
+
+        // When / Then
+        assertThat(reader.nextCsvRecord()).containsExactly("a", "b", "c");
+        assertThatThrownBy(reader::nextCsvRecord)
+                .isInstanceOf(TaskFileReader.MalformedFileException.class)
+                .hasMessage("Row 2 exceeds 10 characters");
+    }
+
+    @Test
+    @DisplayName("Should cap the line length when reading NDJSON")
+    void given_longLine_when_readingLines_then_lengthCapApplies() {
+        // Given
+        TaskFileReader reader = reader("x".repeat(11), 10);
+
+        // When / Then
+        assertThatThrownBy(reader::nextLine)
+                .isInstanceOf(TaskFileReader.MalformedFileException.class)
+                .hasMessage("Row 1 exceeds 10 characters");
+    }
+
+    private static TaskFileReader reader(String content, int maxRecordLength) {
+        return new TaskFileReader(new StringReader(content), maxRecordLength);
+    }
+}
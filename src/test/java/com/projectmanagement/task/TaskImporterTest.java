@@ -0,0 +1,156 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskImportEvent;
+import com.projectmanagement.task.enums.TaskFileFormat;
+import com.projectmanagement.task.enums.TaskImportEventType;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Task Importer")
+class TaskImporterTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID CREATOR_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskBatchWriter taskBatchWriter;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValidatorFactory validatorFactory;
+    private TaskBatchProperties properties;
+    private TaskImporter importer;
+    private final List<Integer> insertedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        properties = new TaskBatchProperties();
+        properties.setImportChunkSize(2);
+        properties.setImportMaxRecordLength(100);
+        importer = new TaskImporter(taskBatchWriter, taskMapper, objectMapper, validatorFactory.getValidator(), properties);
+
+        when(taskMapper.toEntity(any(CreateTaskRequest.class), eq(PROJECT_ID), any(), eq(CREATOR_ID)))
+                .thenAnswer(invocation -> new Task());
+        when(taskBatchWriter.insert(eq(PROJECT_ID), anyList())).thenAnswer(invocation -> {
+            List<Task> chunk = invocation.getArgument(1);
+            insertedChunks.add(chunk.size());
+            return chunk;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should read a header with a UTF-8 BOM and report progress after every chunk")
+    void given_csvWithBom_when_importing_then_progressIsReportedPerChunk() throws IOException {
+        // Given
+        String csv = "\uFEFFTitle,Priority\r\nFirst,high\r\nSecond,\r\n,low\r\nThird,urgent\r\nFourth,LOW\r\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TaskImportEvent result = importCsv(csv, out);
+
+        // Then
+        assertThat(result.type()).isEqualTo(TaskImportEventType.COMPLETED);
+        assertThat(result.processed()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(insertedChunks).containsExactly(2, 1);
+
+        List<TaskImportEvent> events = events(out);
+        assertThat(events).extracting(TaskImportEvent::type).containsExactly(
+                TaskImportEventType.PROGRESS,
+                TaskImportEventType.ROW_REJECTED,
+                TaskImportEventType.ROW_REJECTED,
+                TaskImportEventType.PROGRESS,
+                TaskImportEventType.COMPLETED);
+        assertThat(events.get(0).imported()).isEqualTo(2);
+        assertThat(events.get(1).row()).isEqualTo(4);
+        assertThat(events.get(1).error()).isEqualTo("Task title is required");
+        assertThat(events.get(2).row()).isEqualTo(5);
+        assertThat(events.get(2).error()).contains("urgent");
+    }
+
+    @Test
+    @DisplayName("Should keep the rows before a malformed record and report the abort")
+    void given_malformedRecord_when_importing_then_importIsAbortedAfterFlushing() throws IOException {
+        // Given
+        String csv = "title\nFirst\n\"Second\"oops\nThird\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TaskImportEvent result = importCsv(csv, out);
+
+        // Then
+        assertThat(result.type()).isEqualTo(TaskImportEventType.ABORTED);
+        assertThat(result.error()).contains("row 3");
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(insertedChunks).containsExactly(1);
+        assertThat(events(out)).extracting(TaskImportEvent::type).containsExactly(
+                TaskImportEventType.PROGRESS,
+                TaskImportEventType.ABORTED);
+    }
+
+    @Test
+    @DisplayName("Should abort when the header has no title column")
+    void given_headerWithoutTitle_when_importing_then_importIsAborted() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        TaskImportEvent result = importCsv("name,priority\nFirst,LOW\n", out);
+
+        // Then
+        assertThat(result.type()).isEqualTo(TaskImportEventType.ABORTED);
+        assertThat(result.processed()).isZero();
+        verifyNoInteractions(taskBatchWriter);
+        assertThat(events(out)).extracting(TaskImportEvent::type).containsExactly(TaskImportEventType.ABORTED);
+    }
+
+    private TaskImportEvent importCsv(String csv, ByteArrayOutputStream out) throws IOException {
+        return importer.importTasks(PROJECT_ID, CREATOR_ID, Set.of(CREATOR_ID), TaskFileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), out);
+    }
+
+    private List<TaskImportEvent> events(ByteArrayOutputStream out) throws IOException {
+        List<TaskImportEvent> events = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            events.add(objectMapper.readValue(line, TaskImportEvent.class));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,156 @@
+package com.projectmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.project.ProjectTestUtils;
+import com.projectmanagement.task.dto.CreateTaskRequest;
+import com.projectmanagement.task.dto.TaskFilterRequest;
+import com.projectmanagement.task.enums.TaskPriority;
+import com.projectmanagement.task.enums.TaskStatus;
+import com.projectmanagement.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Task Specifications")
+class TaskSpecificationsIntegrationTest {
+
+    private static final UUID ASSIGNEE_ID = UUID.randomUUID();
+    private static final UUID CREATOR_ID = UUID.randomUUID();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private UUID projectId;
+    private Task todoLow;
+    private Task inProgressHigh;
+    private Task doneHigh;
+    private LocalDateTime betweenFirstAndLast;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        projectId = UUID.randomUUID();
+        todoLow = save(projectId, TaskStatus.TODO, TaskPriority.LOW, ASSIGNEE_ID, CREATOR_ID);
+        inProgressHigh = save(projectId, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null, CREATOR_ID);
+        Thread.sleep(20);
+        betweenFirstAndLast = LocalDateTime.now();
+        Thread.sleep(20);
+        doneHigh = save(projectId, TaskStatus.DONE, TaskPriority.HIGH, ASSIGNEE_ID, UUID.randomUUID());
+
+        // A task in another project that matches every filter below
+        save(UUID.randomUUID(), TaskStatus.TODO, TaskPriority.HIGH, ASSIGNEE_ID, CREATOR_ID);
+    }
+
+    @Test
+    @DisplayName("Given no filter, when matching, then only the project's tasks are returned")
+    void givenNoFilter_whenMatching_thenOnlyProjectTasksAreReturned() {
+        // When / Then
+        assertThat(find(null)).containsExactlyInAnyOrder(todoLow, inProgressHigh, doneHigh);
+        assertThat(find(filter(null, null, null, null, null, null))).containsExactlyInAnyOrder(todoLow, inProgressHigh, doneHigh);
+    }
+
+    @Test
+    @DisplayName("Given several statuses, when matching, then tasks in any of them are returned")
+    void givenSeveralStatuses_whenMatching_thenAnyOfThemMatches() {
+        // When / Then
+        assertThat(find(filter(List.of(TaskStatus.TODO, TaskStatus.DONE), null, null, null, null, null)))
+                .containsExactlyInAnyOrder(todoLow, doneHigh);
+    }
+
+    @Test
+    @DisplayName("Given filters on different attributes, when matching, then all of them must hold")
+    void givenCombinedFilters_whenMatching_thenAllMustHold() {
+        // When / Then
+        assertThat(find(filter(null, List.of(TaskPriority.HIGH), ASSIGNEE_ID, null, null, null)))
+                .containsExactly(doneHigh);
+        assertThat(find(filter(null, List.of(TaskPriority.HIGH), null, CREATOR_ID, null, null)))
+                .containsExactly(inProgressHigh);
+        assertThat(find(filter(List.of(TaskStatus.TODO), List.of(TaskPriority.HIGH), null, null, null, null)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a creation date range, when matching, then the lower bound is inclusive and the upper bound exclusive")
+    void givenCreatedRange_whenMatching_thenHalfOpenRangeApplies() {
+        // When / Then
+        assertThat(find(filter(null, null, null, null, betweenFirstAndLast, null)))
+                .containsExactly(doneHigh);
+        assertThat(find(filter(null, null, null, null, null, betweenFirstAndLast)))
+                .containsExactlyInAnyOrder(todoLow, inProgressHigh);
+        assertThat(find(filter(null, null, null, null, inProgressHigh.getCreatedAt(), doneHigh.getCreatedAt())))
+                .containsExactly(inProgressHigh);
+    }
+
+    @Test
+    @DisplayName("Given repeated query parameters, when listing project tasks, then they bind to the filter")
+    void givenRepeatedQueryParameters_whenListingTasks_thenTheyBindToTheFilter() {
+        // Given
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        String managerToken = AuthTestUtils.getManagerToken(restTemplate);
+        UUID apiProjectId = ProjectTestUtils.createProject(restTemplate, managerToken, "Filter project");
+        ProjectTestUtils.createTask(restTemplate, managerToken, apiProjectId,
+                new CreateTaskRequest("Todo", null, null, TaskStatus.TODO, TaskPriority.LOW));
+        ProjectTestUtils.createTask(restTemplate, managerToken, apiProjectId,
+                new CreateTaskRequest("Review", null, null, TaskStatus.REVIEW, TaskPriority.CRITICAL));
+        ProjectTestUtils.createTask(restTemplate, managerToken, apiProjectId,
+                new CreateTaskRequest("Done", null, null, TaskStatus.DONE, TaskPriority.CRITICAL));
+
+        // When
+        ResponseEntity<JsonNode> response = ProjectTestUtils.get(restTemplate, managerToken,
+                "/" + apiProjectId + "/tasks?status=TODO&status=REVIEW&priority=CRITICAL");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> titles = new ArrayList<>();
+        response.getBody().get("content").forEach(task -> titles.add(task.get("title").asText()));
+        assertThat(titles).containsExactly("Review");
+    }
+
+    private List<Task> find(TaskFilterRequest filter) {
+        return taskRepository.findAll(TaskSpecifications.matching(projectId, filter));
+    }
+
+    private static TaskFilterRequest filter(List<TaskStatus> status, List<TaskPriority> priority, UUID assignedUserId,
+                                            UUID createdById, LocalDateTime createdAfter, LocalDateTime createdBefore) {
+        return new TaskFilterRequest(status, priority, assignedUserId, createdById, createdAfter, createdBefore, null, null);
+    }
+
+    private Task save(UUID projectId, TaskStatus status, TaskPriority priority, UUID assignedUserId, UUID createdById) {
+        Task task = new Task();
+        task.setTitle(status + " " + priority);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setProjectId(projectId);
+        task.setAssignedUserId(assignedUserId);
+        task.setCreatedById(createdById);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,104 @@
+package com.projectmanagement.user;
+
+import com.projectmanagement.auth.AuthTestFixture;
+import com.projectmanagement.auth.AuthTestUtils;
+import com.projectmanagement.auth.CustomUserDetails;
+import com.projectmanagement.config.CacheNames;
+import com.projectmanagement.user.dto.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.projectmanagement.auth.TestDataConstants.TestUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("User Cache")
+class UserCacheIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Authentication developer = new UsernamePasswordAuthenticationToken(TestUsers.DEVELOPER_EMAIL, null);
+
+    @BeforeEach
+    void setUp() {
+        AuthTestFixture.cleanDatabaseAndCreateUsers(userRepository, passwordEncoder);
+        // The fixture writes through the repository, so entries cached by earlier tests would outlive their users
+        cacheManager.getCache(CacheNames.USERS).clear();
+    }
+
+    @Test
+    @DisplayName("Given a cached current user, when the row changes behind the cache, then the cached response is served")
+    void givenCachedCurrentUser_whenRowChangesBehindCache_thenCachedResponseIsServed() {
+        // Given
+        UserResponse first = userService.getCurrentUser(developer);
+
+        // When
+        renameDeveloper("renamed-dev");
+        UserResponse second = userService.getCurrentUser(developer);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(second.username()).isEqualTo(TestUsers.DEVELOPER_USERNAME);
+        assertThat(cacheManager.getCache(CacheNames.USERS).get(TestUsers.DEVELOPER_EMAIL)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Given a cached current user, when the password hash is upgraded, then the entry is evicted")
+    void givenCachedCurrentUser_whenPasswordUpdated_thenEntryIsEvicted() {
+        // Given
+        userService.getCurrentUser(developer);
+        renameDeveloper("renamed-dev");
+
+        // When
+        User user = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow();
+        userService.updatePassword(new CustomUserDetails(user), passwordEncoder.encode("new-password-1!"));
+
+        // Then
+        assertThat(cacheManager.getCache(CacheNames.USERS).get(TestUsers.DEVELOPER_EMAIL)).isNull();
+        assertThat(userService.getCurrentUser(developer).username()).isEqualTo("renamed-dev");
+    }
+
+    @Test
+    @DisplayName("Given a cached current user whose account was removed, when the email is registered again, then the new account is served")
+    void givenCachedRemovedUser_whenEmailRegisteredAgain_thenNewAccountIsServed() {
+        // Given
+        UserResponse removed = userService.getCurrentUser(developer);
+        userRepository.deleteById(removed.id());
+
+        // When
+        User recreated = userService.createUser(
+                AuthTestUtils.createDeveloperRequest("recreated-dev", TestUsers.DEVELOPER_EMAIL));
+
+        // Then
+        UserResponse current = userService.getCurrentUser(developer);
+        assertThat(current.id()).isEqualTo(recreated.getId()).isNotEqualTo(removed.id());
+        assertThat(current.username()).isEqualTo("recreated-dev");
+    }
+
+    private void renameDeveloper(String username) {
+        User user = userRepository.findByEmail(TestUsers.DEVELOPER_EMAIL).orElseThrow();
+        user.setUsername(username);
+        userRepository.save(user);
+    }
+}
@@ -1,5 +1,7 @@
 package com.projectmanagement.user;
 
+import java.util.UUID;
+
 public final class UserTestConstants {
 
     private UserTestConstants() {
@@ -12,6 +14,10 @@ public final class UserTestConstants {
 
         public static final String ME_URL = USER_BASE + "/me";
 
+        public static String disableUrl(UUID userId) {
+            return USER_BASE + "/" + userId + "/disable";
+        }
+
         private ApiEndpoints() {
             // Utility class
         }
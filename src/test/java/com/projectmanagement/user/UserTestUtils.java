@@ -4,6 +4,8 @@ import com.projectmanagement.user.dto.UserResponse;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
+import java.util.UUID;
+
 import static com.projectmanagement.user.UserTestConstants.*;
 
 public final class UserTestUtils {
@@ -24,4 +26,16 @@ public final class UserTestUtils {
                 UserResponse.class
         );
     }
+
+    public static ResponseEntity<Void> disableUser(TestRestTemplate restTemplate, String authToken, UUID userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+
+        return restTemplate.exchange(
+                ApiEndpoints.disableUrl(userId),
+                HttpMethod.POST,
+                new HttpEntity<>(headers),
+                Void.class
+        );
+    }
 }
\ No newline at end of file